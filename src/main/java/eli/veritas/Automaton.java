@@ -0,0 +1,284 @@
+package eli.veritas;
+
+import eli.veritas.RegexParser.Node;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A Thompson NFA compiled from one or more {@link RegexParser parsed} regular expressions. It is
+ * simulated by tracking the set of every state the input could have reached at once, so deciding a
+ * match reads each input code point exactly once and costs O(input length × state count) in the
+ * worst case, no matter how the patterns are written. There is no backtracking.
+ *
+ * <p>A combined automaton of several patterns reports the lowest index among the patterns that
+ * match.
+ *
+ * @author The Architect
+ */
+final class Automaton {
+
+  /**
+   * Bounds the number of states, since counted repetitions are expanded into copies.
+   */
+  static final int maxStates = 100_000;
+
+  private static final int noState = -1;
+  private static final int noMatch = -1;
+
+  /**
+   * The code points a consuming state accepts, or null for epsilon and match states.
+   */
+  private final CodePointSet[] sets;
+  /**
+   * The next state of a consuming state, or the first branch of an epsilon state.
+   */
+  private final int[] next1;
+  /**
+   * The second branch of an epsilon state, or {@link #noState}.
+   */
+  private final int[] next2;
+  /**
+   * The pattern index of a match state, or {@link #noMatch}.
+   */
+  private final int[] matches;
+  private final int start;
+  private final int size;
+
+  private Automaton(final Builder builder, final int start) {
+    this.size = builder.size;
+    this.sets = Arrays.copyOf(builder.sets, size);
+    this.next1 = Arrays.copyOf(builder.next1, size);
+    this.next2 = Arrays.copyOf(builder.next2, size);
+    this.matches = Arrays.copyOf(builder.matches, size);
+    this.start = start;
+  }
+
+  /**
+   * @param roots The parsed patterns, identified by their index. (Cannot be empty)
+   * @return A new non-null {@link Automaton} matching any of <var>roots</var>.
+   * @throws IllegalArgumentException If the automaton would exceed {@link #maxStates}.
+   */
+  static Automaton compile(final List<Node> roots) {
+    final Builder builder = new Builder();
+    int start = noState;
+    for (int i = roots.size() - 1; i >= 0; i--) {
+      final int match = builder.add(null, noState, noState, i);
+      final int root = builder.compile(roots.get(i), match);
+      start = start == noState ? root : builder.add(null, root, start, noMatch);
+    }
+    return new Automaton(builder, start);
+  }
+
+  /**
+   * @return The number of states of this automaton.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return The lowest index of the patterns that match all of <var>input</var>, or -1 if none
+   * does.
+   */
+  int firstMatch(final CharSequence input) {
+    final Run run = new Run();
+    for (int i = 0; i < input.length() && run.isAlive(); ) {
+      final int codePoint = Character.codePointAt(input, i);
+      run.step(codePoint);
+      i += Character.charCount(codePoint);
+    }
+    return run.firstMatch();
+  }
+
+  /**
+   * @return The lowest index of the patterns that match all of the UTF-8 encoded <var>input</var>
+   * between its position and limit, or -1 if none does.
+   */
+  int firstMatch(final ByteBuffer input) {
+    final Run run = new Run();
+    for (int i = input.position(); i < input.limit() && run.isAlive(); ) {
+      final int sequenceLength = Utf8.sequenceLength(input, i);
+      run.step(Utf8.codePointAt(input, i, sequenceLength));
+      i += sequenceLength;
+    }
+    return run.firstMatch();
+  }
+
+  /**
+   * @return A new non-null {@link Run} before any input, for callers that feed the input one code
+   * point at a time as part of their own scan.
+   */
+  Run run() {
+    return new Run();
+  }
+
+  /**
+   * The state sets of a single simulation.
+   */
+  final class Run {
+
+    private StateSet current = new StateSet(size);
+    private StateSet next = new StateSet(size);
+    private final int[] stack = new int[size];
+
+    private Run() {
+      addClosure(current, start);
+    }
+
+    /**
+     * @return False once no further input can lead to a match.
+     */
+    boolean isAlive() {
+      return current.size > 0;
+    }
+
+    void step(final int codePoint) {
+      next.clear();
+      for (int i = 0; i < current.size; i++) {
+        final int state = current.dense[i];
+        if (sets[state] != null && sets[state].contains(codePoint)) {
+          addClosure(next, next1[state]);
+        }
+      }
+      final StateSet swap = current;
+      current = next;
+      next = swap;
+    }
+
+    /**
+     * Adds <var>state</var> and every state reachable from it through epsilon transitions, with an
+     * explicit stack so that long chains of epsilon states cannot overflow the call stack.
+     */
+    private void addClosure(final StateSet set, final int state) {
+      if (!set.add(state)) {
+        return;
+      }
+      int top = 0;
+      stack[top++] = state;
+      while (top > 0) {
+        final int epsilon = stack[--top];
+        if (sets[epsilon] != null || matches[epsilon] != noMatch) {
+          continue;
+        }
+        if (next2[epsilon] != noState && set.add(next2[epsilon])) {
+          stack[top++] = next2[epsilon];
+        }
+        if (set.add(next1[epsilon])) {
+          stack[top++] = next1[epsilon];
+        }
+      }
+    }
+
+    /**
+     * @return The lowest index of the patterns that match the input so far, or -1 if none does.
+     */
+    int firstMatch() {
+      int first = noMatch;
+      for (int i = 0; i < current.size; i++) {
+        final int match = matches[current.dense[i]];
+        if (match != noMatch && (first == noMatch || match < first)) {
+          first = match;
+        }
+      }
+      return first;
+    }
+  }
+
+  /**
+   * A sparse set of states, which is cleared in constant time.
+   */
+  private static final class StateSet {
+
+    private final int[] dense;
+    private final int[] sparse;
+    private int size;
+
+    private StateSet(final int capacity) {
+      this.dense = new int[capacity];
+      this.sparse = new int[capacity];
+    }
+
+    private boolean add(final int state) {
+      final int index = sparse[state];
+      if (index < size && dense[index] == state) {
+        return false;
+      }
+      sparse[state] = size;
+      dense[size++] = state;
+      return true;
+    }
+
+    private void clear() {
+      size = 0;
+    }
+  }
+
+  /**
+   * Compiles {@link Node nodes} backwards: each node is compiled given the state that follows it,
+   * so every repetition copy naturally gets fresh states.
+   */
+  private static final class Builder {
+
+    private CodePointSet[] sets = new CodePointSet[16];
+    private int[] next1 = new int[16];
+    private int[] next2 = new int[16];
+    private int[] matches = new int[16];
+    private int size;
+
+    private int add(final CodePointSet set, final int next1, final int next2, final int match) {
+      if (size == maxStates) {
+        throw new IllegalArgumentException(
+            "Unsupported pattern size above " + maxStates + " automaton states.");
+      } else if (size == sets.length) {
+        final int capacity = Math.min(size * 2, maxStates);
+        sets = Arrays.copyOf(sets, capacity);
+        this.next1 = Arrays.copyOf(this.next1, capacity);
+        this.next2 = Arrays.copyOf(this.next2, capacity);
+        matches = Arrays.copyOf(matches, capacity);
+      }
+      sets[size] = set;
+      this.next1[size] = next1;
+      this.next2[size] = next2;
+      matches[size] = match;
+      return size++;
+    }
+
+    private int compile(final Node node, final int next) {
+      if (node instanceof Node.Characters) {
+        return add(((Node.Characters) node).set, next, noState, noMatch);
+      } else if (node instanceof Node.Concatenation) {
+        final List<Node> items = ((Node.Concatenation) node).items;
+        int state = next;
+        for (int i = items.size() - 1; i >= 0; i--) {
+          state = compile(items.get(i), state);
+        }
+        return state;
+      } else if (node instanceof Node.Alternation) {
+        final List<Node> alternatives = ((Node.Alternation) node).alternatives;
+        int state = compile(alternatives.get(alternatives.size() - 1), next);
+        for (int i = alternatives.size() - 2; i >= 0; i--) {
+          state = add(null, compile(alternatives.get(i), next), state, noMatch);
+        }
+        return state;
+      }
+      final Node.Repetition repetition = (Node.Repetition) node;
+      int state = next;
+      if (repetition.max < 0) {
+        final int loop = add(null, noState, next, noMatch);
+        // Compiled first, since compiling may grow and replace the arrays.
+        final int body = compile(repetition.node, loop);
+        this.next1[loop] = body;
+        state = loop;
+      } else {
+        for (int i = repetition.min; i < repetition.max; i++) {
+          state = add(null, compile(repetition.node, state), next, noMatch);
+        }
+      }
+      for (int i = 0; i < repetition.min; i++) {
+        state = compile(repetition.node, state);
+      }
+      return state;
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package eli.veritas;
+
+import eli.veritas.RegexParser.Node;
+import java.util.function.IntPredicate;
+
+/**
+ * A set of characters for {@link Verifier.Checker#ifNotContainsOnly(String, CharSequence,
+ * CharClass, Object[]) ifNotContainsOnly} and {@link Verifier.Checker#ifContainsAny(String,
+ * CharSequence, CharClass, Object[]) ifContainsAny} checks, compiled once into a lookup table so
+ * that checking a string costs one bit test per character, without the overhead of a regular
+ * expression or any allocation.
+ *
+ * <p>Code points of the Basic Multilingual Plane are looked up in a bitset, sized up to the
+ * greatest such code point in the class, so that ASCII classes take a few words. Supplementary
+ * code points, given in a string as surrogate pairs, are decoded and looked up among the sorted
+ * ranges of the class.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @author The Architect
+ */
+public final class CharClass implements IntPredicate {
+
+  /**
+   * The ASCII letters and digits, {@code [A-Za-z0-9]}.
+   */
+  public static final CharClass ALPHANUMERIC = compile("alphanumeric", "[A-Za-z0-9]");
+  /**
+   * The hexadecimal digits in either case, {@code [0-9A-Fa-f]}.
+   */
+  public static final CharClass HEX = compile("hex", "[0-9A-Fa-f]");
+  /**
+   * The base64 alphabet of RFC 4648 with its padding, {@code [A-Za-z0-9+/=]}.
+   */
+  public static final CharClass BASE64 = compile("base64", "[A-Za-z0-9+/=]");
+  /**
+   * The URL and filename safe base64 alphabet of RFC 4648 with its padding, {@code
+   * [A-Za-z0-9_=-]}.
+   */
+  public static final CharClass BASE64_URL = compile("base64url", "[A-Za-z0-9_=-]");
+  /**
+   * The printable ASCII characters, from space to tilde, {@code [ -~]}.
+   */
+  public static final CharClass ASCII_PRINTABLE = compile("ASCII printable", "[ -~]");
+
+  private static final int maxBmp = Character.MAX_VALUE;
+
+  private final String name;
+  private final CodePointSet set;
+  /**
+   * The bits of the code points of the Basic Multilingual Plane in this class, up to the greatest.
+   */
+  private final long[] bmp;
+
+  private CharClass(final String name, final CodePointSet set) {
+    this.name = name;
+    this.set = set;
+    final int[] ranges = set.ranges();
+    int greatest = -1;
+    for (int i = 1; i < ranges.length && ranges[i - 1] <= maxBmp; i += 2) {
+      greatest = Math.min(ranges[i], maxBmp);
+    }
+    this.bmp = new long[(greatest >> 6) + 1];
+    for (int i = 0; i < ranges.length && ranges[i] <= greatest; i += 2) {
+      for (int c = ranges[i]; c <= Math.min(ranges[i + 1], greatest); c++) {
+        bmp[c >> 6] |= 1L << c;
+      }
+    }
+  }
+
+  /**
+   * @param regex A regular expression of a single character class, e.g. {@code [A-Za-z_]} or
+   * {@code [\w-]}, as supported by {@link LinearPattern}. (Cannot be null)
+   * @return A new non-null {@link CharClass} named after <var>regex</var>.
+   * @throws IllegalArgumentException If <var>regex</var> is malformed, or is not a single
+   * character class.
+   */
+  public static CharClass compile(final String regex) {
+    return compile(regex, regex);
+  }
+
+  /**
+   * @param name The name of the class, to describe it in diagnostic messages. (Cannot be null)
+   * @param regex A regular expression of a single character class, as supported by {@link
+   * LinearPattern}. (Cannot be null)
+   * @return A new non-null {@link CharClass} of <var>regex</var>.
+   * @throws IllegalArgumentException If <var>regex</var> is malformed, or is not a single
+   * character class.
+   */
+  public static CharClass compile(final String name, final String regex) {
+    final Node node = RegexParser.parse(regex);
+    if (!(node instanceof Node.Characters)) {
+      throw new IllegalArgumentException(
+          "Unsupported pattern[\"" + regex + "\"], which is not a single character class.");
+    }
+    return new CharClass(name, ((Node.Characters) node).set);
+  }
+
+  /**
+   * @param name The name of the class, to describe it in diagnostic messages. (Cannot be null)
+   * @param ranges Inclusive <var>low</var>, <var>high</var> code point pairs, in any order, and
+   * possibly overlapping. (Cannot be null)
+   * @return A new non-null {@link CharClass} of the code points within any of <var>ranges</var>.
+   */
+  public static CharClass ofRanges(final String name, final int... ranges) {
+    return new CharClass(name, CodePointSet.ofRanges(ranges));
+  }
+
+  /**
+   * @param name The name of the union, to describe it in diagnostic messages. (Cannot be null)
+   * @return A new non-null {@link CharClass} of the code points in either this or the
+   * <var>other</var> class.
+   */
+  public CharClass union(final String name, final CharClass other) {
+    return new CharClass(name, set.union(other.set));
+  }
+
+  /**
+   * @return A new non-null {@link CharClass} of every code point not in this class.
+   */
+  public CharClass complement() {
+    return new CharClass("not " + name, set.complement());
+  }
+
+  /**
+   * @return True if <var>codePoint</var> is in this class.
+   */
+  public boolean contains(final int codePoint) {
+    if (codePoint >= 0 && codePoint >> 6 < bmp.length) {
+      return (bmp[codePoint >> 6] & 1L << codePoint) != 0;
+    }
+    return codePoint > maxBmp && set.contains(codePoint);
+  }
+
+  /**
+   * The same as {@link #contains(int)}.
+   */
+  @Override
+  public boolean test(final int codePoint) {
+    return contains(codePoint);
+  }
+
+  /**
+   * @param input The string to scan. (Cannot be null)
+   * @return The index of the first code point of <var>input</var> outside this class, or -1 if it
+   * contains only code points of this class.
+   */
+  public int indexOutside(final CharSequence input) {
+    return indexOf(input, false);
+  }
+
+  /**
+   * @param input The string to scan. (Cannot be null)
+   * @return The index of the first code point of <var>input</var> in this class, or -1 if it
+   * contains none.
+   */
+  public int indexInside(final CharSequence input) {
+    return indexOf(input, true);
+  }
+
+  /**
+   * Looks up every char that is not a surrogate directly in the table, and decodes only surrogate
+   * pairs into code points. An unpaired surrogate is looked up as itself.
+   */
+  private int indexOf(final CharSequence input, final boolean inside) {
+    final int length = input.length();
+    for (int i = 0; i < length; i++) {
+      final char c = input.charAt(i);
+      final int codePoint = Character.isSurrogate(c) ? Character.codePointAt(input, i) : c;
+      if (contains(codePoint) == inside) {
+        return i;
+      }
+      i += Character.charCount(codePoint) - 1;
+    }
+    return -1;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
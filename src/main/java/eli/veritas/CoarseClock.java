@@ -0,0 +1,133 @@
+package eli.veritas;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Clock} that answers from a cached epoch value which a background daemon thread
+ * refreshes from a source {@link Clock} once per <var>resolution</var>. Reading it costs a single
+ * volatile read, so high-rate validators can check timestamps against "now" without reading the
+ * system clock for every check. The time it reports lags the source by at most one
+ * <var>resolution</var>.
+ *
+ * @author The Architect
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+  private final Cache cache;
+  private final ZoneId zone;
+
+  private CoarseClock(final Cache cache, final ZoneId zone) {
+    this.cache = cache;
+    this.zone = zone;
+  }
+
+  /**
+   * @param resolution How often the cached value is refreshed from the {@link Clock#systemUTC()
+   * system clock}. (Must be positive)
+   * @return A new non-null, started {@link CoarseClock} in {@link ZoneOffset#UTC}.
+   */
+  public static CoarseClock start(final Duration resolution) {
+    return start(Clock.systemUTC(), resolution);
+  }
+
+  /**
+   * @param source The {@link Clock} to cache. (Cannot be null)
+   * @param resolution How often the cached value is refreshed from <var>source</var>. (Must be
+   * positive)
+   * @return A new non-null, started {@link CoarseClock} in the zone of <var>source</var>.
+   */
+  public static CoarseClock start(final Clock source, final Duration resolution) {
+    if (resolution.isNegative() || resolution.isZero()) {
+      throw new IllegalArgumentException(
+          "Coarse clock resolution[" + resolution + "] must be positive.");
+    }
+    return new CoarseClock(new Cache(source, resolution), source.getZone());
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  /**
+   * @return A view of this {@link CoarseClock} in <var>zone</var> that shares its cached value and
+   * its refresh thread.
+   */
+  @Override
+  public Clock withZone(final ZoneId zone) {
+    return zone.equals(this.zone) ? this : new CoarseClock(cache, zone);
+  }
+
+  @Override
+  public long millis() {
+    return cache.millis;
+  }
+
+  @Override
+  public Instant instant() {
+    return Instant.ofEpochMilli(cache.millis);
+  }
+
+  /**
+   * @return The failure of the latest attempt to read the source {@link Clock}, or null if it
+   * succeeded. The cached value is kept while the source fails, and refreshing carries on.
+   */
+  public RuntimeException getRefreshFailure() {
+    return cache.failure;
+  }
+
+  /**
+   * Stops refreshing the cached value. This {@link CoarseClock}, and every view of it, keeps
+   * reporting the last cached value afterwards.
+   */
+  @Override
+  public void close() {
+    cache.refresher.shutdownNow();
+  }
+
+  @Override
+  public String toString() {
+    return "CoarseClock[" + cache.source + ", " + cache.resolution + ", " + zone + "]";
+  }
+
+  private static final class Cache {
+
+    private final Clock source;
+    private final Duration resolution;
+    private final ScheduledExecutorService refresher;
+    private volatile long millis;
+    private volatile RuntimeException failure;
+
+    private Cache(final Clock source, final Duration resolution) {
+      this.source = source;
+      this.resolution = resolution;
+      this.millis = source.millis();
+      this.refresher = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("veritas-coarse-clock-%d")
+              .build());
+      final long period = Math.max(resolution.toNanos(), 1L);
+      refresher.scheduleAtFixedRate(this::refresh, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Never throws, since a periodic task that throws is silently never run again, which would
+     * freeze the cached value for good.
+     */
+    private void refresh() {
+      try {
+        millis = source.millis();
+        failure = null;
+      } catch (final RuntimeException ex) {
+        failure = ex;
+      }
+    }
+  }
+}
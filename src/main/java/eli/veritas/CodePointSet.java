@@ -0,0 +1,124 @@
+package eli.veritas;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of Unicode code points, stored as sorted, disjoint, inclusive ranges. Membership
+ * of ASCII code points is answered from a 128 bit table, and of every other code point by a binary
+ * search over the ranges, so neither allocates.
+ *
+ * @author The Architect
+ */
+final class CodePointSet {
+
+  static final CodePointSet EMPTY = new CodePointSet(new int[0]);
+  static final CodePointSet ALL = new CodePointSet(new int[]{0, Character.MAX_CODE_POINT});
+
+  private final int[] ranges;
+  private final long ascii0;
+  private final long ascii1;
+
+  private CodePointSet(final int[] ranges) {
+    this.ranges = ranges;
+    long ascii0 = 0L;
+    long ascii1 = 0L;
+    for (int i = 0; i < ranges.length && ranges[i] < 128; i += 2) {
+      for (int c = ranges[i]; c <= Math.min(ranges[i + 1], 127); c++) {
+        if (c < 64) {
+          ascii0 |= 1L << c;
+        } else {
+          ascii1 |= 1L << c - 64;
+        }
+      }
+    }
+    this.ascii0 = ascii0;
+    this.ascii1 = ascii1;
+  }
+
+  static CodePointSet of(final int codePoint) {
+    return new CodePointSet(new int[]{codePoint, codePoint});
+  }
+
+  /**
+   * @param ranges Inclusive <var>low</var>, <var>high</var> pairs, in any order, and possibly
+   * overlapping. (Cannot be null)
+   */
+  static CodePointSet ofRanges(final int... ranges) {
+    final int pairs = ranges.length / 2;
+    final long[] sorted = new long[pairs];
+    for (int i = 0; i < pairs; i++) {
+      sorted[i] = (long) ranges[2 * i] << 32 | ranges[2 * i + 1];
+    }
+    Arrays.sort(sorted);
+    final int[] merged = new int[pairs * 2];
+    int size = 0;
+    for (final long pair : sorted) {
+      final int low = (int) (pair >>> 32);
+      final int high = (int) pair;
+      if (size > 0 && low <= merged[size - 1] + 1) {
+        merged[size - 1] = Math.max(merged[size - 1], high);
+      } else {
+        merged[size++] = low;
+        merged[size++] = high;
+      }
+    }
+    return new CodePointSet(Arrays.copyOf(merged, size));
+  }
+
+  CodePointSet union(final CodePointSet other) {
+    final int[] ranges = Arrays.copyOf(this.ranges, this.ranges.length + other.ranges.length);
+    System.arraycopy(other.ranges, 0, ranges, this.ranges.length, other.ranges.length);
+    return ofRanges(ranges);
+  }
+
+  CodePointSet complement() {
+    final int[] complement = new int[ranges.length + 2];
+    int size = 0;
+    int next = 0;
+    for (int i = 0; i < ranges.length; i += 2) {
+      if (ranges[i] > next) {
+        complement[size++] = next;
+        complement[size++] = ranges[i] - 1;
+      }
+      next = ranges[i + 1] + 1;
+    }
+    if (next <= Character.MAX_CODE_POINT) {
+      complement[size++] = next;
+      complement[size++] = Character.MAX_CODE_POINT;
+    }
+    return new CodePointSet(Arrays.copyOf(complement, size));
+  }
+
+  boolean contains(final int codePoint) {
+    if (codePoint < 64) {
+      return codePoint >= 0 && (ascii0 & 1L << codePoint) != 0;
+    } else if (codePoint < 128) {
+      return (ascii1 & 1L << codePoint - 64) != 0;
+    }
+    int low = 0;
+    int high = ranges.length / 2 - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      if (codePoint < ranges[2 * middle]) {
+        high = middle - 1;
+      } else if (codePoint > ranges[2 * middle + 1]) {
+        low = middle + 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  boolean isEmpty() {
+    return ranges.length == 0;
+  }
+
+  /**
+   * @return The inclusive <var>low</var>, <var>high</var> range pairs of this set. (Must not be
+   * modified)
+   */
+  int[] ranges() {
+    return ranges;
+  }
+}
@@ -0,0 +1,150 @@
+package eli.veritas;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The multiset difference between an <var>actual</var> and an <var>expected</var> {@link
+ * Collection}: the elements only expected, those only present, and those present a different
+ * number of times than expected. It is computed in one hashing pass over each collection, and only
+ * once a check has failed.
+ *
+ * <p>Each category keeps at most a fixed number of entries, but counts all of them, so that a
+ * {@link RenderingBudget} renders the kept entries followed by "…and N more" for the rest.
+ *
+ * @author The Architect
+ */
+final class CollectionDiff {
+
+  private final Sample<Object> missing;
+  private final Sample<Object> unexpected;
+  private final Sample<Miscount> miscounted;
+
+  private CollectionDiff(final Sample<Object> missing, final Sample<Object> unexpected,
+      final Sample<Miscount> miscounted) {
+    this.missing = missing;
+    this.unexpected = unexpected;
+    this.miscounted = miscounted;
+  }
+
+  /**
+   * @param limit The maximum number of entries kept per category. (Must be positive)
+   * @return A new non-null {@link CollectionDiff} of <var>actual</var> against
+   * <var>expected</var>.
+   */
+  static CollectionDiff of(final Collection<?> actual, final Collection<?> expected,
+      final int limit) {
+    // Ordered by first appearance, so the kept entries are the earliest ones.
+    final Map<Object, int[]> counts = new LinkedHashMap<>();
+    for (final Object value : actual) {
+      counts.computeIfAbsent(value, key -> new int[2])[0]++;
+    }
+    for (final Object value : expected) {
+      counts.computeIfAbsent(value, key -> new int[2])[1]++;
+    }
+
+    final Sample<Object> missing = new Sample<>(limit);
+    final Sample<Object> unexpected = new Sample<>(limit);
+    final Sample<Miscount> miscounted = new Sample<>(limit);
+    for (final Map.Entry<Object, int[]> entry : counts.entrySet()) {
+      final int actualCount = entry.getValue()[0];
+      final int expectedCount = entry.getValue()[1];
+      if (actualCount == 0) {
+        missing.add(entry.getKey());
+      } else if (expectedCount == 0) {
+        unexpected.add(entry.getKey());
+      } else if (actualCount != expectedCount) {
+        miscounted.add(new Miscount(entry.getKey(), actualCount, expectedCount));
+      }
+    }
+    return new CollectionDiff(missing, unexpected, miscounted);
+  }
+
+  /**
+   * @return True if both collections hold the same elements the same number of times, so they
+   * differ only in order or in collection type.
+   */
+  boolean isEmpty() {
+    return missing.isEmpty() && unexpected.isEmpty() && miscounted.isEmpty();
+  }
+
+  /**
+   * @return The non-null, distinct elements of <var>expected</var> absent from <var>actual</var>.
+   */
+  Collection<Object> getMissing() {
+    return missing;
+  }
+
+  /**
+   * @return The non-null, distinct elements of <var>actual</var> absent from <var>expected</var>.
+   */
+  Collection<Object> getUnexpected() {
+    return unexpected;
+  }
+
+  /**
+   * @return The non-null elements in both collections, but a different number of times.
+   */
+  Collection<Miscount> getMiscounted() {
+    return miscounted;
+  }
+
+  /**
+   * The first entries of a category, up to the limit, sized by the number of all of them, so that
+   * a renderer summarizes the rest from the size.
+   */
+  private static final class Sample<E> extends AbstractCollection<E> {
+
+    private final List<E> kept = new ArrayList<>();
+    private final int limit;
+    private int size;
+
+    private Sample(final int limit) {
+      this.limit = limit;
+    }
+
+    @Override
+    public boolean add(final E entry) {
+      if (size++ < limit) {
+        kept.add(entry);
+      }
+      return true;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return kept.iterator();
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /**
+   * An element with its number of occurrences in each collection.
+   */
+  static final class Miscount {
+
+    private final Object element;
+    private final int actualCount;
+    private final int expectedCount;
+
+    private Miscount(final Object element, final int actualCount, final int expectedCount) {
+      this.element = element;
+      this.actualCount = actualCount;
+      this.expectedCount = expectedCount;
+    }
+
+    @Override
+    public String toString() {
+      return element + " ×" + actualCount + " ≠ ×" + expectedCount;
+    }
+  }
+}
@@ -0,0 +1,372 @@
+package eli.veritas;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable, compressed set of {@code int} and {@code long} values, for {@link
+ * Verifier.Checker#ifIn(String, int, IntegerSet, Object[]) ifIn} and {@link
+ * Verifier.Checker#ifNotIn(String, int, IntegerSet, Object[]) ifNotIn} checks that never box.
+ *
+ * <p>Values are partitioned, Roaring style, by their upper 48 bits into chunks of 65536, and each
+ * chunk stores its lower 16 bits in whichever container is smallest: a sorted array for sparse
+ * chunks, a 65536 bit bitmap for dense ones, or sorted runs for contiguous ones. A lookup is a
+ * binary search of the chunks, then a bit test or a binary search in one container, and neither
+ * allocates. Instances are thread-safe.
+ *
+ * @author The Architect
+ */
+public final class IntegerSet {
+
+  private static final int chunkBits = 16;
+  private static final int chunkMask = 0xFFFF;
+  private static final int bitmapWords = 1024;
+
+  private final long[] keys;
+  private final Container[] containers;
+  private final long size;
+
+  private IntegerSet(final long[] keys, final Container[] containers, final long size) {
+    this.keys = keys;
+    this.containers = containers;
+    this.size = size;
+  }
+
+  /**
+   * @return A new non-null {@link IntegerSet} of <var>values</var>.
+   */
+  public static IntegerSet of(final int... values) {
+    final Builder builder = builder();
+    for (final int value : values) {
+      builder.add(value);
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return A new non-null {@link IntegerSet} of <var>values</var>.
+   */
+  public static IntegerSet of(final long... values) {
+    return builder().addAll(values).build();
+  }
+
+  /**
+   * @return A new non-null, empty {@link Builder}.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return True if <var>value</var> is in this set.
+   */
+  public boolean contains(final int value) {
+    return contains((long) value);
+  }
+
+  /**
+   * @return True if <var>value</var> is in this set.
+   */
+  public boolean contains(final long value) {
+    final int chunk = Arrays.binarySearch(keys, value >> chunkBits);
+    return chunk >= 0 && containers[chunk].contains((int) value & chunkMask);
+  }
+
+  /**
+   * @return The index of the first of <var>values</var> that is in this set, or -1 if none is.
+   */
+  public int indexOfFirstIn(final int[] values) {
+    return indexOfFirst(values, true);
+  }
+
+  /**
+   * @return The index of the first of <var>values</var> that is not in this set, or -1 if all are.
+   */
+  public int indexOfFirstNotIn(final int[] values) {
+    return indexOfFirst(values, false);
+  }
+
+  /**
+   * Consecutive values usually fall in the same chunk, so its container is reused without
+   * searching the chunks again.
+   */
+  private int indexOfFirst(final int[] values, final boolean in) {
+    long key = Long.MIN_VALUE;
+    Container container = null;
+    for (int i = 0; i < values.length; i++) {
+      final long valueKey = values[i] >> chunkBits;
+      if (valueKey != key) {
+        key = valueKey;
+        final int chunk = Arrays.binarySearch(keys, key);
+        container = chunk >= 0 ? containers[chunk] : null;
+      }
+      if ((container != null && container.contains(values[i] & chunkMask)) == in) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return The number of values in this set.
+   */
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return "IntegerSet[" + size + "]";
+  }
+
+  /**
+   * The lower 16 bits of the values in one chunk.
+   */
+  private abstract static class Container {
+
+    abstract boolean contains(int low);
+  }
+
+  private static final class ArrayContainer extends Container {
+
+    private final char[] values;
+
+    private ArrayContainer(final char[] values) {
+      this.values = values;
+    }
+
+    @Override
+    boolean contains(final int low) {
+      return Arrays.binarySearch(values, (char) low) >= 0;
+    }
+  }
+
+  private static final class BitmapContainer extends Container {
+
+    private final long[] words = new long[bitmapWords];
+
+    @Override
+    boolean contains(final int low) {
+      return (words[low >>> 6] & 1L << low) != 0;
+    }
+  }
+
+  private static final class RunContainer extends Container {
+
+    private final char[] starts;
+    private final char[] ends;
+
+    private RunContainer(final char[] starts, final char[] ends) {
+      this.starts = starts;
+      this.ends = ends;
+    }
+
+    @Override
+    boolean contains(final int low) {
+      final int run = Arrays.binarySearch(starts, (char) low);
+      if (run >= 0) {
+        return true;
+      }
+      final int preceding = -run - 2;
+      return preceding >= 0 && low <= ends[preceding];
+    }
+  }
+
+  /**
+   * Collects values, in any order and possibly repeated, and compresses them into an {@link
+   * IntegerSet}. Values are gathered per chunk as they arrive, in an array of their lower 16 bits
+   * that turns into a bitmap once it would be larger, so a chunk never takes more than a bitmap of
+   * memory however many values are added to it. Ranges set whole words of the bitmap at once.
+   */
+  public static final class Builder {
+
+    private final Map<Long, Chunk> chunks = new HashMap<>();
+    /**
+     * The chunk of the last value added, since consecutive values usually share it.
+     */
+    private Chunk last;
+    private long lastKey;
+
+    private Builder() {
+    }
+
+    /**
+     * @return This non-null {@link Builder}.
+     */
+    public Builder add(final long value) {
+      chunk(value >> chunkBits).add((int) value & chunkMask);
+      return this;
+    }
+
+    /**
+     * @return This non-null {@link Builder}.
+     */
+    public Builder addAll(final long... values) {
+      for (final long value : values) {
+        add(value);
+      }
+      return this;
+    }
+
+    /**
+     * Adds the range chunk by chunk, setting whole words of each chunk's bitmap at once, so that
+     * adding it takes time and memory in proportion to the chunks it covers rather than to its
+     * values.
+     *
+     * @param from The first value to add.
+     * @param to The last value to add, inclusive.
+     * @return This non-null {@link Builder}.
+     */
+    public Builder addRange(final long from, final long to) {
+      for (long key = from >> chunkBits; key <= to >> chunkBits; key++) {
+        final int low = key == from >> chunkBits ? (int) from & chunkMask : 0;
+        final int high = key == to >> chunkBits ? (int) to & chunkMask : chunkMask;
+        chunk(key).addRange(low, high);
+        if (key == Long.MAX_VALUE >> chunkBits) {
+          break;
+        }
+      }
+      return this;
+    }
+
+    private Chunk chunk(final long key) {
+      if (last == null || key != lastKey) {
+        last = chunks.computeIfAbsent(key, k -> new Chunk());
+        lastKey = key;
+      }
+      return last;
+    }
+
+    /**
+     * @return A new non-null {@link IntegerSet} of the values added so far.
+     */
+    public IntegerSet build() {
+      final long[] keys = new long[chunks.size()];
+      int index = 0;
+      for (final long key : chunks.keySet()) {
+        keys[index++] = key;
+      }
+      Arrays.sort(keys);
+      final Container[] containers = new Container[keys.length];
+      final char[] lows = new char[1 << chunkBits];
+      long size = 0;
+      for (int i = 0; i < keys.length; i++) {
+        final Chunk chunk = chunks.get(keys[i]);
+        final int distinct = chunk.sortedLows(lows);
+        int runs = 0;
+        for (int j = 0; j < distinct; j++) {
+          if (j == 0 || lows[j - 1] + 1 != lows[j]) {
+            runs++;
+          }
+        }
+        containers[i] = compress(lows, distinct, runs);
+        size += distinct;
+      }
+      return new IntegerSet(keys, containers, size);
+    }
+
+    /**
+     * @return The smallest container of the <var>distinct</var> sorted <var>lows</var>, which form
+     * <var>runs</var> contiguous runs.
+     */
+    private static Container compress(final char[] lows, final int distinct, final int runs) {
+      final int arrayBytes = 2 * distinct;
+      final int bitmapBytes = 8 * bitmapWords;
+      final int runBytes = 4 * runs;
+      if (runBytes <= arrayBytes && runBytes <= bitmapBytes) {
+        final char[] starts = new char[runs];
+        final char[] ends = new char[runs];
+        int run = -1;
+        for (int i = 0; i < distinct; i++) {
+          if (i == 0 || lows[i - 1] + 1 != lows[i]) {
+            starts[++run] = lows[i];
+          }
+          ends[run] = lows[i];
+        }
+        return new RunContainer(starts, ends);
+      } else if (arrayBytes <= bitmapBytes) {
+        return new ArrayContainer(Arrays.copyOf(lows, distinct));
+      }
+      final BitmapContainer bitmap = new BitmapContainer();
+      for (int i = 0; i < distinct; i++) {
+        bitmap.words[lows[i] >>> 6] |= 1L << lows[i];
+      }
+      return bitmap;
+    }
+
+    /**
+     * The lower 16 bits of the values added to one chunk so far.
+     */
+    private static final class Chunk {
+
+      private char[] array = new char[4];
+      private int count;
+      private long[] bitmap;
+
+      private void add(final int low) {
+        if (bitmap != null) {
+          bitmap[low >>> 6] |= 1L << low;
+          return;
+        } else if (count == array.length) {
+          if (2 * count >= 8 * bitmapWords) {
+            toBitmap();
+            add(low);
+            return;
+          }
+          array = Arrays.copyOf(array, count * 2);
+        }
+        array[count++] = (char) low;
+      }
+
+      private void addRange(final int low, final int high) {
+        if (bitmap == null) {
+          toBitmap();
+        }
+        final int first = low >>> 6;
+        final int last = high >>> 6;
+        final long firstMask = -1L << low;
+        final long lastMask = -1L >>> 63 - (high & 63);
+        if (first == last) {
+          bitmap[first] |= firstMask & lastMask;
+          return;
+        }
+        bitmap[first] |= firstMask;
+        Arrays.fill(bitmap, first + 1, last, -1L);
+        bitmap[last] |= lastMask;
+      }
+
+      private void toBitmap() {
+        bitmap = new long[bitmapWords];
+        for (int i = 0; i < count; i++) {
+          bitmap[array[i] >>> 6] |= 1L << array[i];
+        }
+        array = null;
+      }
+
+      /**
+       * @param lows The array to fill with the distinct lower bits, sorted. (Cannot be shorter
+       * than a chunk)
+       * @return The number of distinct lower bits.
+       */
+      private int sortedLows(final char[] lows) {
+        int distinct = 0;
+        if (bitmap != null) {
+          for (int word = 0; word < bitmapWords; word++) {
+            for (long bits = bitmap[word]; bits != 0; bits &= bits - 1) {
+              lows[distinct++] = (char) (word << 6 | Long.numberOfTrailingZeros(bits));
+            }
+          }
+          return distinct;
+        }
+        Arrays.sort(array, 0, count);
+        for (int i = 0; i < count; i++) {
+          if (distinct == 0 || lows[distinct - 1] != array[i]) {
+            lows[distinct++] = array[i];
+          }
+        }
+        return distinct;
+      }
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package eli.veritas;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+/**
+ * A precompiled regular expression for checking untrusted input. Patterns within the supported
+ * subset of {@link Pattern} syntax are matched by an automaton that reads each input code point
+ * exactly once, so matching takes O(input length × pattern size) time however the pattern is
+ * written, e.g. {@code (a+)+b} cannot backtrack catastrophically. Patterns outside the subset, e.g.
+ * with back references, look-around, or word boundaries, fall back to {@link Pattern}, which {@link
+ * #isLinear()} and {@link #getFallbackReason()} report. Use {@link #compileLinear(String)} to
+ * reject such patterns instead.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @author The Architect
+ */
+public final class LinearPattern {
+
+  private final String regex;
+  private final Automaton automaton;
+  private final Pattern fallback;
+  private final String fallbackReason;
+
+  private LinearPattern(final String regex, final Automaton automaton, final Pattern fallback,
+      final String fallbackReason) {
+    this.regex = regex;
+    this.automaton = automaton;
+    this.fallback = fallback;
+    this.fallbackReason = fallbackReason;
+  }
+
+  /**
+   * @param regex The regular expression to compile. (Cannot be null)
+   * @return A new non-null {@link LinearPattern}, which is only {@link #isLinear() linear} if
+   * <var>regex</var> is within the supported subset.
+   * @throws java.util.regex.PatternSyntaxException If <var>regex</var> is not a valid {@link
+   * Pattern} either.
+   */
+  public static LinearPattern compile(final String regex) {
+    try {
+      return compileLinear(regex);
+    } catch (final IllegalArgumentException ex) {
+      return new LinearPattern(regex, null, Pattern.compile(regex), ex.getMessage());
+    }
+  }
+
+  /**
+   * @param regex The regular expression to compile. (Cannot be null)
+   * @return A new non-null {@link #isLinear() linear} {@link LinearPattern}.
+   * @throws IllegalArgumentException If <var>regex</var> is malformed, or uses a construct outside
+   * the supported subset.
+   */
+  public static LinearPattern compileLinear(final String regex) {
+    final Automaton automaton = Automaton
+        .compile(Collections.singletonList(RegexParser.parse(regex)));
+    return new LinearPattern(regex, automaton, null, null);
+  }
+
+  /**
+   * @return True if matching is guaranteed to take linear time in the input length.
+   */
+  public boolean isLinear() {
+    return automaton != null;
+  }
+
+  /**
+   * @return The reason this pattern fell back to {@link Pattern}, or null if it is {@link
+   * #isLinear() linear}.
+   */
+  public String getFallbackReason() {
+    return fallbackReason;
+  }
+
+  /**
+   * @return The automaton of this pattern, or null if it is not {@link #isLinear() linear}.
+   */
+  Automaton automaton() {
+    return automaton;
+  }
+
+  /**
+   * @return The non-null source regular expression.
+   */
+  public String pattern() {
+    return regex;
+  }
+
+  /**
+   * @return True if all of <var>input</var> matches this pattern, the same as {@link
+   * java.util.regex.Matcher#matches()}.
+   */
+  public boolean matches(final CharSequence input) {
+    return automaton != null ? automaton.firstMatch(input) >= 0
+        : fallback.matcher(input).matches();
+  }
+
+  /**
+   * @param input The UTF-8 encoded input, read from its position to its limit without changing
+   * either. (Cannot be null)
+   * @return True if all of the decoded <var>input</var> matches this pattern.
+   */
+  public boolean matches(final ByteBuffer input) {
+    if (automaton != null) {
+      return automaton.firstMatch(input) >= 0;
+    }
+    final CharSequence chars = Utf8.isAscii(input) ? Utf8.asCharSequence(input)
+        : StandardCharsets.UTF_8.decode(input.duplicate());
+    return fallback.matcher(chars).matches();
+  }
+
+  @Override
+  public String toString() {
+    return regex;
+  }
+}
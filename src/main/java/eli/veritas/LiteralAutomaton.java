@@ -0,0 +1,207 @@
+package eli.veritas;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton over a set of literals: a trie of their characters, plus failure links
+ * from each node to the node of its longest proper suffix that is also in the trie. Whether the
+ * input equals or starts with a literal is decided by walking the trie, and whether it contains one
+ * by following failure links on mismatches, so each reads the input characters once and costs
+ * O(input length) however many literals there are.
+ *
+ * <p>Each node's transitions are stored as a sorted run of the flat {@link #labels} and {@link
+ * #targets} arrays and searched by bisection, so lookups neither allocate nor box.
+ *
+ * @author The Architect
+ */
+final class LiteralAutomaton {
+
+  private static final int root = 0;
+  private static final int noMatch = -1;
+
+  private final int[] firstTransition;
+  private final char[] labels;
+  private final int[] targets;
+  private final int[] failures;
+  /**
+   * The lowest index of the literals ending exactly at a node, or {@link #noMatch}.
+   */
+  private final int[] terminals;
+  /**
+   * The lowest index of the literals ending at a node or any node on its failure chain, or {@link
+   * #noMatch}.
+   */
+  private final int[] outputs;
+
+  private LiteralAutomaton(final int[] firstTransition, final char[] labels, final int[] targets,
+      final int[] failures, final int[] terminals, final int[] outputs) {
+    this.firstTransition = firstTransition;
+    this.labels = labels;
+    this.targets = targets;
+    this.failures = failures;
+    this.terminals = terminals;
+    this.outputs = outputs;
+  }
+
+  /**
+   * @param literals The literals, identified by their index. (Cannot be null, nor contain null)
+   * @return A new non-null {@link LiteralAutomaton} of <var>literals</var>.
+   */
+  static LiteralAutomaton compile(final List<String> literals) {
+    final List<Map<Character, Integer>> children = new ArrayList<>();
+    final List<Integer> ends = new ArrayList<>();
+    children.add(new TreeMap<>());
+    ends.add(noMatch);
+    for (int i = 0; i < literals.size(); i++) {
+      final String literal = literals.get(i);
+      int node = root;
+      for (int j = 0; j < literal.length(); j++) {
+        final Integer child = children.get(node).get(literal.charAt(j));
+        if (child != null) {
+          node = child;
+        } else {
+          children.get(node).put(literal.charAt(j), children.size());
+          node = children.size();
+          children.add(new TreeMap<>());
+          ends.add(noMatch);
+        }
+      }
+      if (ends.get(node) == noMatch) {
+        ends.set(node, i);
+      }
+    }
+
+    final int size = children.size();
+    final int[] firstTransition = new int[size + 1];
+    final char[] labels = new char[size - 1];
+    final int[] targets = new int[size - 1];
+    final int[] terminals = new int[size];
+    int transition = 0;
+    for (int node = 0; node < size; node++) {
+      firstTransition[node] = transition;
+      for (final Map.Entry<Character, Integer> child : children.get(node).entrySet()) {
+        labels[transition] = child.getKey();
+        targets[transition++] = child.getValue();
+      }
+      terminals[node] = ends.get(node);
+    }
+    firstTransition[size] = transition;
+
+    final LiteralAutomaton automaton = new LiteralAutomaton(firstTransition, labels, targets,
+        new int[size], terminals, new int[size]);
+    automaton.link();
+    return automaton;
+  }
+
+  /**
+   * Computes the failure links and outputs breadth first, so every shorter suffix is linked before
+   * the nodes that fail over to it.
+   */
+  private void link() {
+    final Deque<Integer> queue = new ArrayDeque<>();
+    failures[root] = root;
+    outputs[root] = terminals[root];
+    queue.add(root);
+    while (!queue.isEmpty()) {
+      final int node = queue.remove();
+      for (int t = firstTransition[node]; t < firstTransition[node + 1]; t++) {
+        final int child = targets[t];
+        if (node == root) {
+          failures[child] = root;
+        } else {
+          int failure = failures[node];
+          while (failure != root && next(failure, labels[t]) < 0) {
+            failure = failures[failure];
+          }
+          final int next = next(failure, labels[t]);
+          failures[child] = next >= 0 ? next : root;
+        }
+        outputs[child] = lowest(terminals[child], outputs[failures[child]]);
+        queue.add(child);
+      }
+    }
+  }
+
+  private static int lowest(final int match1, final int match2) {
+    if (match1 == noMatch) {
+      return match2;
+    } else if (match2 == noMatch) {
+      return match1;
+    }
+    return Math.min(match1, match2);
+  }
+
+  /**
+   * @return The node reached from <var>node</var> by <var>label</var>, or -1 if there is none.
+   */
+  private int next(final int node, final char label) {
+    int low = firstTransition[node];
+    int high = firstTransition[node + 1] - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      if (labels[middle] < label) {
+        low = middle + 1;
+      } else if (labels[middle] > label) {
+        high = middle - 1;
+      } else {
+        return targets[middle];
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return The lowest index of the literals equal to <var>input</var>, or -1 if none is.
+   */
+  int firstMatch(final CharSequence input) {
+    int node = root;
+    for (int i = 0; i < input.length(); i++) {
+      node = next(node, input.charAt(i));
+      if (node < 0) {
+        return noMatch;
+      }
+    }
+    return terminals[node];
+  }
+
+  /**
+   * @return The lowest index of the longest literals that <var>input</var> starts with, or -1 if it
+   * starts with none.
+   */
+  int longestPrefix(final CharSequence input) {
+    int node = root;
+    int longest = terminals[root];
+    for (int i = 0; i < input.length(); i++) {
+      node = next(node, input.charAt(i));
+      if (node < 0) {
+        break;
+      } else if (terminals[node] != noMatch) {
+        longest = terminals[node];
+      }
+    }
+    return longest;
+  }
+
+  /**
+   * @return The lowest index of the literals ending at the earliest position of <var>input</var>
+   * at which any literal ends, or -1 if <var>input</var> contains none.
+   */
+  int firstContained(final CharSequence input) {
+    int node = root;
+    for (int i = 0; i < input.length() && outputs[node] == noMatch; i++) {
+      final char c = input.charAt(i);
+      int next = next(node, c);
+      while (next < 0 && node != root) {
+        node = failures[node];
+        next = next(node, c);
+      }
+      node = next >= 0 ? next : root;
+    }
+    return outputs[node];
+  }
+}
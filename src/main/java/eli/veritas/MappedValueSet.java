@@ -0,0 +1,315 @@
+package eli.veritas;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.PrimitiveSink;
+import com.google.common.primitives.UnsignedBytes;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A read-only set of strings answered off-heap from an index file mapped with {@link
+ * FileChannel#map}, for {@link Verifier.Checker#ifIn ifIn} and {@link Verifier.Checker#ifNotIn
+ * ifNotIn} checks against reference sets too large to hold as a heap {@link java.util.Set}. Index
+ * files are written by a {@link Builder}.
+ *
+ * <p>The index holds the distinct UTF-8 encoded values sorted by unsigned byte order, which is also
+ * code point order, so a lookup is a binary search that encodes the query as it compares it and
+ * allocates nothing. Its layout, with every integer big-endian, is:
+ * <ol>
+ * <li>The {@link #magic} number and {@link #version}, as 4 byte integers.</li>
+ * <li>The number of values <var>n</var>, as a 4 byte integer.</li>
+ * <li><var>n</var> + 1 ascending 4 byte offsets of each value into the data that follows, the
+ * last being the length of the data.</li>
+ * <li>The data, i.e. the values' bytes, back to back.</li>
+ * </ol>
+ *
+ * <p>Absent values cost a full binary search, whose probes touch about log2(<var>n</var>) pages
+ * scattered over the file. Where most lookups miss, e.g. for a deny list, and the file is much
+ * larger than what stays cached in memory, {@link #openWithBloomFilter} adds a heap {@link
+ * BloomFilter} of the values, which answers most misses without touching the file. For an index
+ * that stays cached, or lookups that mostly hit, it only adds hashing to every lookup.
+ *
+ * <p>Instances are immutable and thread-safe. The mapping outlives {@link #close()}, which only
+ * releases the file handle, until the instance is garbage collected.
+ *
+ * @author The Architect
+ */
+public final class MappedValueSet implements AutoCloseable {
+
+  static final int magic = 0x56534554;
+  static final int version = 1;
+
+  private static final int headerLength = 12;
+  private static final int questionMark = '?';
+
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final int size;
+  private final int dataStart;
+  private final BloomFilter<CharSequence> prefilter;
+
+  private MappedValueSet(final FileChannel channel, final MappedByteBuffer buffer, final int size,
+      final int dataStart, final BloomFilter<CharSequence> prefilter) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.size = size;
+    this.dataStart = dataStart;
+    this.prefilter = prefilter;
+  }
+
+  /**
+   * @param path The index file written by a {@link Builder}. (Cannot be null)
+   * @return A new non-null {@link MappedValueSet} mapping <var>path</var>.
+   * @throws IOException If <var>path</var> cannot be read or mapped, or is not a well formed
+   * index.
+   */
+  public static MappedValueSet open(final Path path) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      final long length = channel.size();
+      if (length < headerLength || length > Integer.MAX_VALUE) {
+        throw malformed(path, "length[" + length + "]");
+      }
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+      if (buffer.getInt(0) != magic || buffer.getInt(4) != version) {
+        throw malformed(path, "header");
+      }
+      final int size = buffer.getInt(8);
+      final long dataStart = headerLength + 4L * (size + 1L);
+      if (size < 0 || dataStart > length
+          || dataStart + buffer.getInt((int) dataStart - 4) != length) {
+        throw malformed(path, "size[" + size + "]");
+      }
+      return new MappedValueSet(channel, buffer, size, (int) dataStart, null);
+    } catch (final IOException | RuntimeException ex) {
+      channel.close();
+      throw ex;
+    }
+  }
+
+  /**
+   * Reads every value once to build the prefilter, which takes about 10 bits per value on the heap
+   * at a 1% <var>falsePositiveRate</var>.
+   *
+   * @param path The index file written by a {@link Builder}. (Cannot be null)
+   * @param falsePositiveRate The fraction of absent values the prefilter lets through to the
+   * binary search. (Must be between 0 and 1, exclusive)
+   * @return A new non-null {@link MappedValueSet} mapping <var>path</var>, prefiltered by a {@link
+   * BloomFilter}.
+   * @throws IOException If <var>path</var> cannot be read or mapped, or is not a well formed
+   * index.
+   * @throws IllegalArgumentException If <var>falsePositiveRate</var> is out of range.
+   */
+  public static MappedValueSet openWithBloomFilter(final Path path,
+      final double falsePositiveRate) throws IOException {
+    final MappedValueSet set = open(path);
+    try {
+      final BloomFilter<CharSequence> prefilter = BloomFilter
+          .create(MappedValueSet::funnel, Math.max(set.size, 1), falsePositiveRate);
+      for (int i = 0; i < set.size; i++) {
+        prefilter.put(set.value(i));
+      }
+      return new MappedValueSet(set.channel, set.buffer, set.size, set.dataStart, prefilter);
+    } catch (final RuntimeException ex) {
+      set.close();
+      throw ex;
+    }
+  }
+
+  private static IOException malformed(final Path path, final String part) {
+    return new IOException("Malformed value set index " + part + " in file[" + path + "].");
+  }
+
+  /**
+   * @return A new non-null, empty {@link Builder}.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return True if <var>value</var> is one of the indexed values.
+   */
+  public boolean contains(final CharSequence value) {
+    if (value == null || prefilter != null && !prefilter.mightContain(value)) {
+      return false;
+    }
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int comparison = compare(value, middle);
+      if (comparison > 0) {
+        low = middle + 1;
+      } else if (comparison < 0) {
+        high = middle - 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Funnels values by their UTF-8 encoding, which {@link String#getBytes} also writes to the index,
+   * so that a query and its indexed value funnel the same bytes.
+   */
+  private static void funnel(final CharSequence value, final PrimitiveSink sink) {
+    sink.putString(value, StandardCharsets.UTF_8);
+  }
+
+  private String value(final int index) {
+    final int start = dataStart + buffer.getInt(headerLength + 4 * index);
+    final byte[] bytes = new byte[dataStart + buffer.getInt(headerLength + 4 * index + 4) - start];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = buffer.get(start + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Compares <var>value</var>, encoded one code point at a time the same way as {@link
+   * String#getBytes} encodes it to UTF-8, with the indexed value at <var>index</var>.
+   */
+  private int compare(final CharSequence value, final int index) {
+    int position = dataStart + buffer.getInt(headerLength + 4 * index);
+    final int end = dataStart + buffer.getInt(headerLength + 4 * index + 4);
+    for (int i = 0; i < value.length(); ) {
+      final char c = value.charAt(i);
+      int codePoint = c;
+      if (Character.isHighSurrogate(c) && i + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        codePoint = Character.toCodePoint(c, value.charAt(i + 1));
+      } else if (Character.isSurrogate(c)) {
+        codePoint = questionMark;
+      }
+      i += Character.charCount(codePoint);
+      final int length = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2
+          : codePoint < 0x10000 ? 3 : 4;
+      for (int k = length - 1; k >= 0; k--) {
+        if (position == end) {
+          return 1;
+        }
+        final int expected = encodedByte(codePoint, length, k);
+        final int actual = buffer.get(position++) & 0xFF;
+        if (expected != actual) {
+          return expected - actual;
+        }
+      }
+    }
+    return position == end ? 0 : -1;
+  }
+
+  /**
+   * @param remaining The number of bytes of the encoded code point that follow the wanted one.
+   * @return The UTF-8 byte of <var>codePoint</var> that has <var>remaining</var> bytes after it.
+   */
+  private static int encodedByte(final int codePoint, final int length, final int remaining) {
+    if (length == 1) {
+      return codePoint;
+    } else if (remaining < length - 1) {
+      return 0x80 | codePoint >>> 6 * remaining & 0x3F;
+    }
+    final int lead = length == 2 ? 0xC0 : length == 3 ? 0xE0 : 0xF0;
+    return lead | codePoint >>> 6 * remaining;
+  }
+
+  /**
+   * @return The number of indexed values.
+   */
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  @Override
+  public String toString() {
+    return "MappedValueSet[" + size + "]";
+  }
+
+  /**
+   * Collects values and writes them as a {@link MappedValueSet} index file. Duplicates are written
+   * once.
+   */
+  public static final class Builder {
+
+    private final List<byte[]> values = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    /**
+     * @param value The value to index. (Cannot be null)
+     * @return This non-null {@link Builder}.
+     */
+    public Builder add(final CharSequence value) {
+      values.add(value.toString().getBytes(StandardCharsets.UTF_8));
+      return this;
+    }
+
+    /**
+     * @param values The values to index. (Cannot be null, nor contain null)
+     * @return This non-null {@link Builder}.
+     */
+    public Builder addAll(final Iterable<? extends CharSequence> values) {
+      for (final CharSequence value : values) {
+        add(value);
+      }
+      return this;
+    }
+
+    /**
+     * Writes the index file, replacing any existing file at <var>path</var>.
+     *
+     * @param path The index file to write. (Cannot be null)
+     * @throws IOException If <var>path</var> cannot be written, or the index would exceed 2 GiB.
+     */
+    public void writeTo(final Path path) throws IOException {
+      final byte[][] sorted = values.toArray(new byte[0][]);
+      Arrays.sort(sorted, UnsignedBytes.lexicographicalComparator());
+      int distinct = 0;
+      long dataLength = 0;
+      for (final byte[] value : sorted) {
+        if (distinct == 0 || !Arrays.equals(sorted[distinct - 1], value)) {
+          sorted[distinct++] = value;
+          dataLength += value.length;
+        }
+      }
+      final long length = headerLength + 4L * (distinct + 1L) + dataLength;
+      if (length > Integer.MAX_VALUE) {
+        throw new IOException("Value set index length[" + length + "] exceeds the mappable limit.");
+      }
+
+      try (OutputStream file = Files.newOutputStream(path);
+          DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+        output.writeInt(magic);
+        output.writeInt(version);
+        output.writeInt(distinct);
+        int offset = 0;
+        for (int i = 0; i < distinct; i++) {
+          output.writeInt(offset);
+          offset += sorted[i].length;
+        }
+        output.writeInt(offset);
+        for (int i = 0; i < distinct; i++) {
+          output.write(sorted[i]);
+        }
+      }
+    }
+  }
+}
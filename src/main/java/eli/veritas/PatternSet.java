@@ -0,0 +1,215 @@
+package eli.veritas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A set of literals or regular expressions compiled once into a single combined matcher, so that
+ * checking an input against every pattern takes one pass over the input instead of one evaluation
+ * per pattern. Literal sets are compiled into an Aho-Corasick automaton, and regular expression
+ * sets into the union of their {@link LinearPattern linear} automata. A union that would exceed
+ * {@link Automaton#maxStates} is split into several automata of consecutive patterns, each of
+ * which takes one pass over the input.
+ *
+ * <p>Patterns are identified by their index in the order given, and a match reports the lowest
+ * index among the matching patterns. Instances are immutable and thread-safe.
+ *
+ * @author The Architect
+ */
+public final class PatternSet {
+
+  private final List<String> patterns;
+  private final LiteralAutomaton literals;
+  private final boolean contained;
+  /**
+   * The automata of consecutive runs of the regular expressions, in pattern order.
+   */
+  private final Automaton[] automata;
+  /**
+   * The index of the first pattern of each of {@link #automata}.
+   */
+  private final int[] offsets;
+  /**
+   * The regular expressions outside the {@link LinearPattern linear} subset, by pattern index, or
+   * null for the patterns within it.
+   */
+  private final Pattern[] fallbacks;
+
+  private PatternSet(final List<String> patterns, final LiteralAutomaton literals,
+      final boolean contained, final Automaton[] automata, final int[] offsets,
+      final Pattern[] fallbacks) {
+    this.patterns = patterns;
+    this.literals = literals;
+    this.contained = contained;
+    this.automata = automata;
+    this.offsets = offsets;
+    this.fallbacks = fallbacks;
+  }
+
+  /**
+   * @param literals The literals, one of which the whole input must equal. (Cannot be null, nor
+   * contain null)
+   * @return A new non-null {@link PatternSet} of <var>literals</var>.
+   */
+  public static PatternSet ofLiterals(final String... literals) {
+    return ofLiterals(Arrays.asList(literals));
+  }
+
+  /**
+   * @param literals The literals, one of which the whole input must equal. (Cannot be null, nor
+   * contain null)
+   * @return A new non-null {@link PatternSet} of <var>literals</var>.
+   */
+  public static PatternSet ofLiterals(final Collection<String> literals) {
+    final List<String> patterns = copyOf(literals);
+    return new PatternSet(patterns, LiteralAutomaton.compile(patterns), false, null, null,
+        null);
+  }
+
+  /**
+   * @param literals The literals, one of which the input must contain anywhere. (Cannot be null,
+   * nor contain null)
+   * @return A new non-null {@link PatternSet} of <var>literals</var>.
+   */
+  public static PatternSet ofContainedLiterals(final String... literals) {
+    return ofContainedLiterals(Arrays.asList(literals));
+  }
+
+  /**
+   * @param literals The literals, one of which the input must contain anywhere. (Cannot be null,
+   * nor contain null)
+   * @return A new non-null {@link PatternSet} of <var>literals</var>.
+   */
+  public static PatternSet ofContainedLiterals(final Collection<String> literals) {
+    final List<String> patterns = copyOf(literals);
+    return new PatternSet(patterns, LiteralAutomaton.compile(patterns), true, null, null,
+        null);
+  }
+
+  /**
+   * @param regexes The regular expressions, one of which the whole input must match. Those outside
+   * the {@link LinearPattern linear} subset, or too large for an automaton on their own, are
+   * evaluated separately with {@link Pattern}. (Cannot be null, nor contain null)
+   * @return A new non-null {@link PatternSet} of <var>regexes</var>.
+   * @throws java.util.regex.PatternSyntaxException If any of <var>regexes</var> is not a valid
+   * {@link Pattern}.
+   */
+  public static PatternSet ofRegexes(final String... regexes) {
+    return ofRegexes(Arrays.asList(regexes));
+  }
+
+  /**
+   * @param regexes The regular expressions, one of which the whole input must match. Those outside
+   * the {@link LinearPattern linear} subset, or too large for an automaton on their own, are
+   * evaluated separately with {@link Pattern}. (Cannot be null, nor contain null)
+   * @return A new non-null {@link PatternSet} of <var>regexes</var>.
+   * @throws java.util.regex.PatternSyntaxException If any of <var>regexes</var> is not a valid
+   * {@link Pattern}.
+   */
+  public static PatternSet ofRegexes(final Collection<String> regexes) {
+    final List<String> patterns = copyOf(regexes);
+    final List<RegexParser.Node> roots = new ArrayList<>(patterns.size());
+    final int[] sizes = new int[patterns.size()];
+    final Pattern[] fallbacks = new Pattern[patterns.size()];
+    boolean linear = true;
+    for (int i = 0; i < fallbacks.length; i++) {
+      try {
+        final RegexParser.Node root = RegexParser.parse(patterns.get(i));
+        sizes[i] = Automaton.compile(Collections.singletonList(root)).size();
+        roots.add(root);
+      } catch (final IllegalArgumentException ex) {
+        // Never matches, so the automaton indices stay aligned with the pattern indices.
+        roots.add(new RegexParser.Node.Characters(CodePointSet.EMPTY));
+        sizes[i] = 2;
+        fallbacks[i] = Pattern.compile(patterns.get(i));
+        linear = false;
+      }
+    }
+
+    // A union has the states of its patterns, plus one to branch to each pattern but the last.
+    final List<Automaton> automata = new ArrayList<>();
+    final List<Integer> offsets = new ArrayList<>();
+    for (int start = 0; start < roots.size(); ) {
+      int end = start + 1;
+      for (long size = sizes[start]; end < roots.size()
+          && size + sizes[end] + 1 <= Automaton.maxStates; end++) {
+        size += sizes[end] + 1;
+      }
+      automata.add(Automaton.compile(roots.subList(start, end)));
+      offsets.add(start);
+      start = end;
+    }
+    return new PatternSet(patterns, null, false, automata.toArray(new Automaton[0]),
+        offsets.stream().mapToInt(Integer::intValue).toArray(), linear ? null : fallbacks);
+  }
+
+  private static List<String> copyOf(final Collection<String> patterns) {
+    final List<String> copy = new ArrayList<>(patterns);
+    for (int i = 0; i < copy.size(); i++) {
+      if (copy.get(i) == null) {
+        throw new NullPointerException("Pattern[" + i + "] cannot be null.");
+      }
+    }
+    return Collections.unmodifiableList(copy);
+  }
+
+  /**
+   * @return The lowest index of the patterns <var>input</var> matches, or -1 if it matches none.
+   */
+  public int firstMatch(final CharSequence input) {
+    if (literals != null) {
+      return contained ? literals.firstContained(input) : literals.firstMatch(input);
+    }
+    int match = -1;
+    for (int i = 0; i < automata.length && match < 0; i++) {
+      final int automatonMatch = automata[i].firstMatch(input);
+      match = automatonMatch >= 0 ? offsets[i] + automatonMatch : -1;
+    }
+    if (fallbacks != null) {
+      final int end = match >= 0 ? match : fallbacks.length;
+      for (int i = 0; i < end; i++) {
+        if (fallbacks[i] != null && fallbacks[i].matcher(input).matches()) {
+          return i;
+        }
+      }
+    }
+    return match;
+  }
+
+  /**
+   * @return True if <var>input</var> matches any of the patterns.
+   */
+  public boolean matches(final CharSequence input) {
+    return firstMatch(input) >= 0;
+  }
+
+  /**
+   * @return The non-null pattern at <var>index</var>.
+   */
+  public String pattern(final int index) {
+    return patterns.get(index);
+  }
+
+  /**
+   * @return The non-null, unmodifiable patterns, by index.
+   */
+  public List<String> patterns() {
+    return patterns;
+  }
+
+  /**
+   * @return The number of patterns.
+   */
+  public int size() {
+    return patterns.size();
+  }
+
+  @Override
+  public String toString() {
+    return patterns.toString();
+  }
+}
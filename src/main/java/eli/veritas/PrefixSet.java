@@ -0,0 +1,82 @@
+package eli.veritas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable set of allowed or denied prefixes, e.g. of resource paths or URLs, built once into a
+ * trie. Finding the longest prefix an input starts with walks the trie along the input, so it
+ * costs O(input length) however many prefixes there are. Instances are thread-safe.
+ *
+ * @author The Architect
+ */
+public final class PrefixSet {
+
+  private final List<String> prefixes;
+  private final LiteralAutomaton trie;
+
+  private PrefixSet(final List<String> prefixes) {
+    this.prefixes = prefixes;
+    this.trie = LiteralAutomaton.compile(prefixes);
+  }
+
+  /**
+   * @param prefixes The prefixes. (Cannot be null, nor contain null)
+   * @return A new non-null {@link PrefixSet} of <var>prefixes</var>.
+   */
+  public static PrefixSet of(final String... prefixes) {
+    return of(Arrays.asList(prefixes));
+  }
+
+  /**
+   * @param prefixes The prefixes. (Cannot be null, nor contain null)
+   * @return A new non-null {@link PrefixSet} of <var>prefixes</var>.
+   */
+  public static PrefixSet of(final Collection<String> prefixes) {
+    final List<String> copy = new ArrayList<>(prefixes);
+    for (int i = 0; i < copy.size(); i++) {
+      if (copy.get(i) == null) {
+        throw new NullPointerException("Prefix[" + i + "] cannot be null.");
+      }
+    }
+    return new PrefixSet(Collections.unmodifiableList(copy));
+  }
+
+  /**
+   * @return The longest of the prefixes <var>input</var> starts with, or null if it starts with
+   * none.
+   */
+  public String longestPrefix(final CharSequence input) {
+    final int prefix = trie.longestPrefix(input);
+    return prefix >= 0 ? prefixes.get(prefix) : null;
+  }
+
+  /**
+   * @return True if <var>input</var> starts with any of the prefixes.
+   */
+  public boolean isPrefixOf(final CharSequence input) {
+    return trie.longestPrefix(input) >= 0;
+  }
+
+  /**
+   * @return The non-null, unmodifiable prefixes.
+   */
+  public List<String> prefixes() {
+    return prefixes;
+  }
+
+  /**
+   * @return The number of prefixes.
+   */
+  public int size() {
+    return prefixes.size();
+  }
+
+  @Override
+  public String toString() {
+    return prefixes.toString();
+  }
+}
@@ -0,0 +1,134 @@
+package eli.veritas;
+
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable reference collection registered once, together with a fingerprint of its content,
+ * for {@link Verifier.Checker#ifEqualReference(String, Collection, ReferenceCollection, Object[])
+ * ifEqualReference} and {@link Verifier.Checker#ifNotEqualReference(String, Collection,
+ * ReferenceCollection, Object[]) ifNotEqualReference} checks that are repeated against it.
+ *
+ * <p>A candidate is compared by size, then by fingerprint, and only when both agree by its
+ * elements, so most unequal candidates cost a single pass of {@link Object#hashCode()} calls
+ * instead of a full {@link Object#equals} traversal. An ordered reference fingerprints its elements
+ * in iteration order, and an unordered one as a multiset, whose element counts are also computed
+ * once up front.
+ *
+ * @param <T> The type of elements.
+ * @author The Architect
+ */
+public final class ReferenceCollection<T> {
+
+  private final Collection<T> values;
+  private final Map<Object, Integer> counts;
+  private final long fingerprint;
+
+  private ReferenceCollection(final Collection<T> values, final Map<Object, Integer> counts) {
+    this.values = values;
+    this.counts = counts;
+    this.fingerprint = fingerprint(values, counts == null);
+  }
+
+  /**
+   * @param values The reference elements, in the order candidates must match. (Cannot be null, but
+   * may contain null)
+   * @return A new non-null, order-sensitive {@link ReferenceCollection} of <var>values</var>.
+   */
+  public static <T> ReferenceCollection<T> ordered(final Collection<? extends T> values) {
+    return new ReferenceCollection<>(Collections.unmodifiableList(new ArrayList<>(values)), null);
+  }
+
+  /**
+   * @param values The reference elements, which candidates must match in any order. (Cannot be
+   * null, but may contain null)
+   * @return A new non-null, order-insensitive {@link ReferenceCollection} of <var>values</var>.
+   */
+  public static <T> ReferenceCollection<T> unordered(final Collection<? extends T> values) {
+    return new ReferenceCollection<>(Collections.unmodifiableList(new ArrayList<>(values)),
+        count(values));
+  }
+
+  private static Map<Object, Integer> count(final Collection<?> values) {
+    final Map<Object, Integer> counts = new HashMap<>(Math.max(16, values.size() * 4 / 3 + 1));
+    for (final Object value : values) {
+      counts.merge(value, 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  /**
+   * @return The fingerprint of <var>values</var>: a polynomial over their mixed hash codes if
+   * <var>ordered</var>, or otherwise their sum, which does not depend on their order.
+   */
+  private static long fingerprint(final Iterable<?> values, final boolean ordered) {
+    long fingerprint = 0;
+    for (final Object value : values) {
+      final long hash = mix(value != null ? value.hashCode() : 0);
+      fingerprint = ordered ? fingerprint * 0x100000001B3L + hash : fingerprint + hash;
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Spreads <var>hash</var> over 64 bits, so that sums and products of nearby hash codes, such as
+   * those of small integers, rarely collide.
+   */
+  private static long mix(final int hash) {
+    long mixed = hash * 0x9E3779B97F4A7C15L;
+    mixed ^= mixed >>> 32;
+    mixed *= 0xBF58476D1CE4E5B9L;
+    return mixed ^ mixed >>> 29;
+  }
+
+  /**
+   * @return True if <var>candidate</var> holds the same elements as this reference, in the same
+   * order if it is {@link #isOrdered() ordered}.
+   */
+  public boolean matches(final Collection<?> candidate) {
+    if (candidate == null || candidate.size() != values.size()
+        || fingerprint(candidate, counts == null) != fingerprint) {
+      return false;
+    } else if (counts == null) {
+      return Iterables.elementsEqual(values, candidate);
+    }
+    return counts.equals(count(candidate));
+  }
+
+  /**
+   * @return True if candidates must match the order of this reference's elements.
+   */
+  public boolean isOrdered() {
+    return counts == null;
+  }
+
+  /**
+   * @return The content fingerprint of this reference, which every matching candidate shares.
+   */
+  public long fingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * @return The non-null, unmodifiable reference elements.
+   */
+  public Collection<T> values() {
+    return values;
+  }
+
+  /**
+   * @return The number of reference elements.
+   */
+  public int size() {
+    return values.size();
+  }
+
+  @Override
+  public String toString() {
+    return values.toString();
+  }
+}
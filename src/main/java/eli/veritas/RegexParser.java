@@ -0,0 +1,400 @@
+package eli.veritas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the subset of {@link java.util.regex.Pattern} syntax whose full-match semantics can be
+ * decided by an {@link Automaton}: literals, escapes, {@code .}, character classes, the predefined
+ * classes {@code \d \D \s \S \w \W}, capturing, named and non-capturing groups, alternation, greedy
+ * and reluctant quantifiers, {@code \Q...\E} quoting, and {@code ^} or {@code $} at the very start
+ * or end of the pattern. Anything else, e.g. back references, look-around, word boundaries,
+ * possessive quantifiers, inline flags, or groups nested deeper than {@link #maxDepth}, is rejected
+ * with an {@link IllegalArgumentException} naming the construct. Malformed patterns are rejected
+ * the same way, and are left to {@link java.util.regex.Pattern} to report properly.
+ *
+ * @author The Architect
+ */
+final class RegexParser {
+
+  /**
+   * Bounds counted repetitions, since each one is expanded into copies of the repeated node.
+   */
+  static final int maxRepetition = 1000;
+  /**
+   * Bounds the nesting of groups, since both parsing and compiling recurse into each group.
+   */
+  static final int maxDepth = 100;
+
+  private static final CodePointSet digits = CodePointSet.ofRanges('0', '9');
+  private static final CodePointSet words = CodePointSet.ofRanges('a', 'z', 'A', 'Z', '0', '9',
+      '_', '_');
+  private static final CodePointSet spaces = CodePointSet.ofRanges(' ', ' ', '\t', '\r');
+  private static final CodePointSet dot = CodePointSet.ofRanges('\n', '\n', '\r', '\r', 0x85,
+      0x85, 0x2028, 0x2029).complement();
+
+  private final String regex;
+  private int index;
+
+  private RegexParser(final String regex) {
+    this.regex = regex;
+  }
+
+  /**
+   * @return The root {@link Node} of <var>regex</var>.
+   * @throws IllegalArgumentException If <var>regex</var> is malformed or uses an unsupported
+   * construct.
+   */
+  static Node parse(final String regex) {
+    final RegexParser parser = new RegexParser(regex);
+    if (parser.peek('^')) {
+      parser.index++;
+    }
+    final Node root = parser.alternation(0);
+    if (parser.index < regex.length()) {
+      throw parser.unsupported("unbalanced ')'");
+    }
+    return root;
+  }
+
+  private Node alternation(final int depth) {
+    final List<Node> alternatives = new ArrayList<>();
+    alternatives.add(concatenation(depth));
+    while (peek('|')) {
+      index++;
+      alternatives.add(concatenation(depth));
+    }
+    return alternatives.size() == 1 ? alternatives.get(0) : new Node.Alternation(alternatives);
+  }
+
+  private Node concatenation(final int depth) {
+    final List<Node> items = new ArrayList<>();
+    while (index < regex.length() && !peek('|') && !peek(')')) {
+      if (depth == 0 && peek('$') && index == regex.length() - 1) {
+        index++;
+        break;
+      } else if (peek('\\') && index + 1 < regex.length() && regex.charAt(index + 1) == 'Q') {
+        index += 2;
+        quotation(items);
+        continue;
+      }
+      items.add(quantified(atom(depth)));
+    }
+    return items.size() == 1 ? items.get(0) : new Node.Concatenation(items);
+  }
+
+  private void quotation(final List<Node> items) {
+    int end = regex.indexOf("\\E", index);
+    if (end < 0) {
+      end = regex.length();
+    }
+    while (index < end) {
+      final int codePoint = regex.codePointAt(index);
+      items.add(new Node.Characters(CodePointSet.of(codePoint)));
+      index += Character.charCount(codePoint);
+    }
+    index = Math.min(end + 2, regex.length());
+  }
+
+  private Node atom(final int depth) {
+    final int codePoint = regex.codePointAt(index);
+    index += Character.charCount(codePoint);
+    switch (codePoint) {
+      case '(':
+        return group(depth);
+      case '[':
+        return new Node.Characters(characterClass());
+      case '.':
+        return new Node.Characters(dot);
+      case '\\':
+        return new Node.Characters(escape(false));
+      case '^':
+      case '$':
+        throw unsupported("anchor '" + (char) codePoint + "' inside the pattern");
+      case '*':
+      case '+':
+      case '?':
+      case '{':
+        throw unsupported("dangling quantifier '" + (char) codePoint + "'");
+      default:
+        return new Node.Characters(CodePointSet.of(codePoint));
+    }
+  }
+
+  private Node group(final int depth) {
+    if (peek('?')) {
+      index++;
+      if (peek(':')) {
+        index++;
+      } else if (peek('<') && index + 1 < regex.length()
+          && Character.isLetter(regex.charAt(index + 1))) {
+        final int end = regex.indexOf('>', index);
+        if (end < 0) {
+          throw unsupported("unterminated group name");
+        }
+        index = end + 1;
+      } else {
+        throw unsupported("special group '(?" + (index < regex.length() ? regex.charAt(index) : "")
+            + "'");
+      }
+    }
+    if (depth >= maxDepth) {
+      throw unsupported("group nesting deeper than " + maxDepth);
+    }
+    final Node node = alternation(depth + 1);
+    if (!peek(')')) {
+      throw unsupported("unclosed group");
+    }
+    index++;
+    return node;
+  }
+
+  private Node quantified(final Node node) {
+    if (index >= regex.length()) {
+      return node;
+    }
+    final int min;
+    final int max;
+    switch (regex.charAt(index)) {
+      case '*':
+        min = 0;
+        max = -1;
+        index++;
+        break;
+      case '+':
+        min = 1;
+        max = -1;
+        index++;
+        break;
+      case '?':
+        min = 0;
+        max = 1;
+        index++;
+        break;
+      case '{':
+        index++;
+        min = number();
+        if (peek(',')) {
+          index++;
+          max = peek('}') ? -1 : number();
+        } else {
+          max = min;
+        }
+        if (!peek('}') || max >= 0 && max < min) {
+          throw unsupported("malformed counted repetition");
+        } else if (Math.max(min, max) > maxRepetition) {
+          throw unsupported("counted repetition above " + maxRepetition);
+        }
+        index++;
+        break;
+      default:
+        return node;
+    }
+    if (peek('?')) {
+      // Reluctant quantifiers only change which match is found, not whether one is.
+      index++;
+    } else if (peek('+')) {
+      throw unsupported("possessive quantifier");
+    }
+    if (index < regex.length() && "*+?{".indexOf(regex.charAt(index)) >= 0) {
+      throw unsupported("repeated quantifier");
+    }
+    return new Node.Repetition(node, min, max);
+  }
+
+  private int number() {
+    final int start = index;
+    while (index < regex.length() && Character.isDigit(regex.charAt(index))
+        && index - start < 9) {
+      index++;
+    }
+    if (start == index) {
+      throw unsupported("malformed counted repetition");
+    }
+    return Integer.parseInt(regex.substring(start, index));
+  }
+
+  private CodePointSet characterClass() {
+    final boolean negated = peek('^');
+    if (negated) {
+      index++;
+    }
+    if (peek(']')) {
+      throw unsupported("leading ']' in a character class");
+    }
+    final List<Integer> ranges = new ArrayList<>();
+    CodePointSet set = CodePointSet.EMPTY;
+    while (!peek(']')) {
+      if (index >= regex.length()) {
+        throw unsupported("unclosed character class");
+      } else if (peek('[') || regex.startsWith("&&", index)) {
+        throw unsupported("nested character class");
+      }
+      final int low;
+      final int codePoint = regex.codePointAt(index);
+      index += Character.charCount(codePoint);
+      if (codePoint == '\\') {
+        final CodePointSet escaped = escape(true);
+        if (escaped.ranges().length != 2 || escaped.ranges()[0] != escaped.ranges()[1]) {
+          set = set.union(escaped);
+          continue;
+        }
+        low = escaped.ranges()[0];
+      } else {
+        low = codePoint;
+      }
+      int high = low;
+      if (peek('-') && index + 1 < regex.length() && regex.charAt(index + 1) != ']') {
+        index++;
+        final int next = regex.codePointAt(index);
+        index += Character.charCount(next);
+        if (next == '\\') {
+          final CodePointSet escaped = escape(true);
+          if (escaped.ranges().length != 2 || escaped.ranges()[0] != escaped.ranges()[1]) {
+            throw unsupported("range ending in a class escape");
+          }
+          high = escaped.ranges()[0];
+        } else if (next == '[') {
+          throw unsupported("nested character class");
+        } else {
+          high = next;
+        }
+        if (high < low) {
+          throw unsupported("reversed range");
+        }
+      }
+      ranges.add(low);
+      ranges.add(high);
+    }
+    index++;
+    final int[] pairs = new int[ranges.size()];
+    for (int i = 0; i < pairs.length; i++) {
+      pairs[i] = ranges.get(i);
+    }
+    set = set.union(CodePointSet.ofRanges(pairs));
+    return negated ? set.complement() : set;
+  }
+
+  private CodePointSet escape(final boolean inClass) {
+    if (index >= regex.length()) {
+      throw unsupported("trailing '\\'");
+    }
+    final int codePoint = regex.codePointAt(index);
+    index += Character.charCount(codePoint);
+    switch (codePoint) {
+      case 'd':
+        return digits;
+      case 'D':
+        return digits.complement();
+      case 's':
+        return spaces;
+      case 'S':
+        return spaces.complement();
+      case 'w':
+        return words;
+      case 'W':
+        return words.complement();
+      case 't':
+        return CodePointSet.of('\t');
+      case 'n':
+        return CodePointSet.of('\n');
+      case 'r':
+        return CodePointSet.of('\r');
+      case 'f':
+        return CodePointSet.of('\f');
+      case 'a':
+        return CodePointSet.of('\u0007');
+      case 'e':
+        return CodePointSet.of('\u001B');
+      case 'x':
+        return CodePointSet.of(hex(2));
+      case 'u':
+        return CodePointSet.of(hex(4));
+      default:
+        if (Character.isLetterOrDigit(codePoint)) {
+          throw unsupported("escape '\\" + new String(Character.toChars(codePoint)) + "'"
+              + (inClass ? " in a character class" : ""));
+        }
+        return CodePointSet.of(codePoint);
+    }
+  }
+
+  private int hex(final int digits) {
+    if (index + digits > regex.length()) {
+      throw unsupported("malformed hexadecimal escape");
+    }
+    int value = 0;
+    for (final int end = index + digits; index < end; index++) {
+      // Only ASCII hexadecimal digits, without the sign or other digits Integer.parseInt accepts.
+      final char c = regex.charAt(index);
+      final int digit = c < 0x80 ? Character.digit(c, 16) : -1;
+      if (digit < 0) {
+        throw unsupported("malformed hexadecimal escape");
+      }
+      value = value << 4 | digit;
+    }
+    return value;
+  }
+
+  private boolean peek(final char c) {
+    return index < regex.length() && regex.charAt(index) == c;
+  }
+
+  private IllegalArgumentException unsupported(final String construct) {
+    return new IllegalArgumentException(
+        "Unsupported " + construct + " at index " + Math.min(index, regex.length())
+            + " of pattern[\"" + regex + "\"].");
+  }
+
+  /**
+   * A node of a parsed regular expression.
+   */
+  abstract static class Node {
+
+    private Node() {
+    }
+
+    static final class Characters extends Node {
+
+      final CodePointSet set;
+
+      Characters(final CodePointSet set) {
+        this.set = set;
+      }
+    }
+
+    static final class Concatenation extends Node {
+
+      final List<Node> items;
+
+      Concatenation(final List<Node> items) {
+        this.items = items;
+      }
+    }
+
+    static final class Alternation extends Node {
+
+      final List<Node> alternatives;
+
+      Alternation(final List<Node> alternatives) {
+        this.alternatives = alternatives;
+      }
+    }
+
+    static final class Repetition extends Node {
+
+      final Node node;
+      final int min;
+      final int max;
+
+      /**
+       * @param max The maximum number of repetitions, or -1 if unbounded.
+       */
+      Repetition(final Node node, final int min, final int max) {
+        this.node = node;
+        this.min = min;
+        this.max = max;
+      }
+    }
+  }
+}
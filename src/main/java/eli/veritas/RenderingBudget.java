@@ -0,0 +1,221 @@
+package eli.veritas;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Bounds how much of an <var>actual</var> or <var>expected</var> value is rendered into a
+ * diagnostic message. Values are truncated while they are being rendered, so a failure against a
+ * very large {@link Collection} or {@link CharSequence} never materializes its full {@link
+ * Object#toString() string form}.
+ *
+ * @author The Architect
+ */
+public final class RenderingBudget {
+
+  /**
+   * The budget used by {@link Verifier#forChecking(Class)}.
+   */
+  public static final RenderingBudget DEFAULT = new RenderingBudget(1024, 64, 8192);
+
+  /**
+   * A budget that never truncates anything.
+   */
+  public static final RenderingBudget UNBOUNDED = new RenderingBudget(Integer.MAX_VALUE,
+      Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+  private static final String ellipsis = "…";
+
+  private final int maxValueLength;
+  private final int maxElements;
+  private final int maxMessageLength;
+
+  private RenderingBudget(final int maxValueLength, final int maxElements,
+      final int maxMessageLength) {
+    this.maxValueLength = maxValueLength;
+    this.maxElements = maxElements;
+    this.maxMessageLength = maxMessageLength;
+  }
+
+  /**
+   * @param maxValueLength The maximum number of characters rendered for any single value. (Must be
+   * positive)
+   * @param maxElements The maximum number of elements rendered for any single collection, map, or
+   * array before the remainder is summarized as "…and N more". (Must be positive)
+   * @param maxMessageLength The maximum number of characters of any single diagnostic message.
+   * (Must be positive)
+   * @return A new non-null {@link RenderingBudget}.
+   */
+  public static RenderingBudget of(final int maxValueLength, final int maxElements,
+      final int maxMessageLength) {
+    if (maxValueLength <= 0 || maxElements <= 0 || maxMessageLength <= 0) {
+      throw new IllegalArgumentException(
+          "Rendering budget limits must be positive: value length[" + maxValueLength
+              + "], elements[" + maxElements + "], message length[" + maxMessageLength + "].");
+    }
+    return new RenderingBudget(maxValueLength, maxElements, maxMessageLength);
+  }
+
+  public int getMaxValueLength() {
+    return maxValueLength;
+  }
+
+  public int getMaxElements() {
+    return maxElements;
+  }
+
+  public int getMaxMessageLength() {
+    return maxMessageLength;
+  }
+
+  /**
+   * Renders a single message argument. {@link Number} and {@link Date} arguments are returned
+   * unchanged so that {@link java.text.MessageFormat} keeps formatting them.
+   */
+  Object renderArgument(final Object argument) {
+    if (argument == null || argument instanceof Number || argument instanceof Date) {
+      return argument;
+    }
+    return render(argument);
+  }
+
+  /**
+   * @return The non-null rendering of <var>value</var>, at most {@link #getMaxValueLength()}
+   * characters plus a trailing ellipsis.
+   */
+  String render(final Object value) {
+    final StringBuilder builder = new StringBuilder(Math.min(maxValueLength, 64) + 16);
+    if (!append(builder, value, maxValueLength)) {
+      builder.append(ellipsis);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * @return <var>message</var> cut to at most {@link #getMaxMessageLength()} characters plus a
+   * trailing ellipsis.
+   */
+  String truncateMessage(final String message) {
+    if (message.length() <= maxMessageLength) {
+      return message;
+    }
+    return message.substring(0, maxMessageLength) + ellipsis;
+  }
+
+  /**
+   * Appends the rendering of <var>value</var> until <var>builder</var> reaches <var>limit</var>
+   * characters.
+   *
+   * @return True if <var>value</var> was rendered completely, or false if it was truncated.
+   */
+  private boolean append(final StringBuilder builder, final Object value, final int limit) {
+    if (value == null) {
+      return appendText(builder, "null", limit);
+    } else if (value instanceof CharSequence) {
+      return appendText(builder, (CharSequence) value, limit);
+    } else if (value instanceof Collection) {
+      final Collection<?> collection = (Collection<?>) value;
+      return appendElements(builder, collection, collection.iterator(), collection.size(), limit);
+    } else if (value instanceof Map) {
+      final Map<?, ?> map = (Map<?, ?>) value;
+      return appendEntries(builder, map, limit);
+    } else if (value.getClass().isArray()) {
+      return appendArray(builder, value, limit);
+    }
+    return appendText(builder, String.valueOf(value), limit);
+  }
+
+  private boolean appendText(final StringBuilder builder, final CharSequence text,
+      final int limit) {
+    final int remaining = limit - builder.length();
+    if (text.length() <= remaining) {
+      builder.append(text);
+      return true;
+    }
+    builder.append(text, 0, Math.max(remaining, 0));
+    return false;
+  }
+
+  private boolean appendElements(final StringBuilder builder, final Object container,
+      final Iterator<?> elements, final int size, final int limit) {
+    if (!appendText(builder, "[", limit)) {
+      return false;
+    }
+    int count = 0;
+    while (elements.hasNext()) {
+      if (count == maxElements) {
+        return appendRemainder(builder, size - count, ']');
+      }
+      if (count > 0 && !appendText(builder, ", ", limit)) {
+        return false;
+      }
+      final Object element = elements.next();
+      if (!append(builder, element == container ? "(this Collection)" : element, limit)) {
+        return false;
+      }
+      count++;
+    }
+    // A container may iterate fewer elements than its size, e.g. a sample of a larger one.
+    return count < size ? appendRemainder(builder, size - count, ']')
+        : appendText(builder, "]", limit);
+  }
+
+  private boolean appendEntries(final StringBuilder builder, final Map<?, ?> map,
+      final int limit) {
+    if (!appendText(builder, "{", limit)) {
+      return false;
+    }
+    int count = 0;
+    for (final Map.Entry<?, ?> entry : map.entrySet()) {
+      if (count == maxElements) {
+        return appendRemainder(builder, map.size() - count, '}');
+      }
+      if (count > 0 && !appendText(builder, ", ", limit)) {
+        return false;
+      }
+      final Object key = entry.getKey();
+      final Object value = entry.getValue();
+      if (!append(builder, key == map ? "(this Map)" : key, limit)
+          || !appendText(builder, "=", limit)
+          || !append(builder, value == map ? "(this Map)" : value, limit)) {
+        return false;
+      }
+      count++;
+    }
+    return appendText(builder, "}", limit);
+  }
+
+  private boolean appendArray(final StringBuilder builder, final Object array, final int limit) {
+    final int length = Array.getLength(array);
+    if (!appendText(builder, "[", limit)) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (i == maxElements) {
+        return appendRemainder(builder, length - i, ']');
+      }
+      if (i > 0 && !appendText(builder, ", ", limit)) {
+        return false;
+      }
+      final Object element = Array.get(array, i);
+      if (!append(builder, element == array ? "(this Array)" : element, limit)) {
+        return false;
+      }
+    }
+    return appendText(builder, "]", limit);
+  }
+
+  /**
+   * The remainder summary is always appended in full, since it is short and it is the only
+   * indication of how much was left out.
+   */
+  private static boolean appendRemainder(final StringBuilder builder, final int remainder,
+      final char close) {
+    builder.append(", ").append(ellipsis).append("and ").append(remainder).append(" more")
+        .append(close);
+    return true;
+  }
+}
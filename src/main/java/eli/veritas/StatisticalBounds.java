@@ -0,0 +1,139 @@
+package eli.veritas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The bounds a sequence of numbers' {@link Statistics} must keep to, for {@link
+ * Verifier.Checker#ifOutsideStatisticalBounds(String, double[], StatisticalBounds, Object[])
+ * ifOutsideStatisticalBounds} checks: a band for the mean, a cap on the standard deviation, limits
+ * for the least and greatest values, and a cap on the fraction of zeros. Only the bounds given to
+ * the {@link Builder} are checked, and none is checked against an empty sequence.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @author The Architect
+ */
+public final class StatisticalBounds {
+
+  private final double minMean;
+  private final double maxMean;
+  private final double maxStandardDeviation;
+  private final double minValue;
+  private final double maxValue;
+  private final double maxZeroFraction;
+
+  private StatisticalBounds(final Builder builder) {
+    this.minMean = builder.minMean;
+    this.maxMean = builder.maxMean;
+    this.maxStandardDeviation = builder.maxStandardDeviation;
+    this.minValue = builder.minValue;
+    this.maxValue = builder.maxValue;
+    this.maxZeroFraction = builder.maxZeroFraction;
+  }
+
+  /**
+   * @return A new non-null {@link Builder} without any bounds.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return The non-null descriptions of the bounds <var>statistics</var> violates, which are none
+   * if it has no values. NaN statistics, from NaN values, violate every bound given.
+   */
+  public List<String> violations(final Statistics statistics) {
+    final List<String> violations = new ArrayList<>();
+    if (statistics.getCount() == 0) {
+      return violations;
+    }
+    final double mean = statistics.getMean();
+    if ((isGiven(minMean) || isGiven(maxMean)) && !(mean >= minMean && mean <= maxMean)) {
+      violations.add("mean[" + mean + "] ∉ [" + minMean + ", " + maxMean + "]");
+    }
+    final double standardDeviation = statistics.getStandardDeviation();
+    if (isGiven(maxStandardDeviation) && !(standardDeviation <= maxStandardDeviation)) {
+      violations.add("standard deviation[" + standardDeviation + "] > " + maxStandardDeviation);
+    }
+    if (isGiven(minValue) && !(statistics.getMin() >= minValue)) {
+      violations.add("min[" + statistics.getMin() + "] < " + minValue);
+    }
+    if (isGiven(maxValue) && !(statistics.getMax() <= maxValue)) {
+      violations.add("max[" + statistics.getMax() + "] > " + maxValue);
+    }
+    final double zeroFraction = statistics.getZeroFraction();
+    if (!(zeroFraction <= maxZeroFraction)) {
+      violations.add("zero fraction[" + zeroFraction + "] > " + maxZeroFraction);
+    }
+    return violations;
+  }
+
+  /**
+   * Bounds not given are infinite, and are skipped so that NaN statistics only violate the bounds
+   * that were given.
+   */
+  private static boolean isGiven(final double bound) {
+    return !Double.isInfinite(bound);
+  }
+
+  /**
+   * Collects the bounds to check. Every bound is inclusive, and any bound not given is unlimited.
+   */
+  public static final class Builder {
+
+    private double minMean = Double.NEGATIVE_INFINITY;
+    private double maxMean = Double.POSITIVE_INFINITY;
+    private double maxStandardDeviation = Double.POSITIVE_INFINITY;
+    private double minValue = Double.NEGATIVE_INFINITY;
+    private double maxValue = Double.POSITIVE_INFINITY;
+    private double maxZeroFraction = 1;
+
+    private Builder() {
+    }
+
+    /**
+     * @return This non-null {@link Builder}.
+     */
+    public Builder mean(final double min, final double max) {
+      this.minMean = min;
+      this.maxMean = max;
+      return this;
+    }
+
+    /**
+     * @return This non-null {@link Builder}.
+     */
+    public Builder maxStandardDeviation(final double max) {
+      this.maxStandardDeviation = max;
+      return this;
+    }
+
+    /**
+     * @param min The least allowed value.
+     * @param max The greatest allowed value.
+     * @return This non-null {@link Builder}.
+     */
+    public Builder range(final double min, final double max) {
+      this.minValue = min;
+      this.maxValue = max;
+      return this;
+    }
+
+    /**
+     * @param max The greatest allowed fraction of values equal to zero, between 0 and 1.
+     * @return This non-null {@link Builder}.
+     */
+    public Builder maxZeroFraction(final double max) {
+      this.maxZeroFraction = max;
+      return this;
+    }
+
+    /**
+     * @return A new non-null {@link StatisticalBounds} of the bounds given so far.
+     */
+    public StatisticalBounds build() {
+      return new StatisticalBounds(this);
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package eli.veritas;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+/**
+ * The count, mean, standard deviation, extremes and number of zeros of a sequence of numbers,
+ * computed together in a single pass for {@link Verifier.Checker#ifOutsideStatisticalBounds(String,
+ * double[], StatisticalBounds, Object[]) ifOutsideStatisticalBounds} checks.
+ *
+ * <p>The mean and variance are accumulated with Welford's update, which stays accurate where the
+ * naive sum of squares cancels catastrophically, and partial results are merged with Chan's
+ * parallel formula, so that long arrays and parallel streams are summarized in parallel chunks.
+ * Instances are immutable once returned.
+ *
+ * @author The Architect
+ */
+public final class Statistics {
+
+  private static final int parallelThreshold = 1 << 16;
+
+  private long count;
+  private double mean;
+  /**
+   * The sum of squared differences from the mean.
+   */
+  private double squares;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+  private long zeros;
+
+  private Statistics() {
+  }
+
+  /**
+   * @param values The values to summarize. (Cannot be null)
+   * @return The new non-null {@link Statistics} of <var>values</var>.
+   */
+  public static Statistics of(final double... values) {
+    final DoubleStream stream = Arrays.stream(values);
+    return of(values.length < parallelThreshold ? stream : stream.parallel());
+  }
+
+  /**
+   * @param values The values to summarize, as {@code double} values. (Cannot be null)
+   * @return The new non-null {@link Statistics} of <var>values</var>.
+   */
+  public static Statistics of(final long... values) {
+    final DoubleStream stream = Arrays.stream(values).asDoubleStream();
+    return of(values.length < parallelThreshold ? stream : stream.parallel());
+  }
+
+  /**
+   * Consumes <var>values</var>, in parallel if it is a parallel stream.
+   *
+   * @param values The values to summarize. (Cannot be null)
+   * @return The new non-null {@link Statistics} of <var>values</var>.
+   */
+  public static Statistics of(final DoubleStream values) {
+    return values.collect(Statistics::new, Statistics::accept, Statistics::combine);
+  }
+
+  private void accept(final double value) {
+    count++;
+    final double delta = value - mean;
+    mean += delta / count;
+    squares += delta * (value - mean);
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    if (value == 0) {
+      zeros++;
+    }
+  }
+
+  private void combine(final Statistics other) {
+    if (other.count == 0) {
+      return;
+    } else if (count == 0) {
+      count = other.count;
+      mean = other.mean;
+      squares = other.squares;
+    } else {
+      final long total = count + other.count;
+      final double delta = other.mean - mean;
+      mean += delta * other.count / total;
+      squares += other.squares + delta * delta * count / total * other.count;
+      count = total;
+    }
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    zeros += other.zeros;
+  }
+
+  /**
+   * @return The number of values.
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * @return The arithmetic mean of the values, or NaN if there are none.
+   */
+  public double getMean() {
+    return count > 0 ? mean : Double.NaN;
+  }
+
+  /**
+   * @return The population standard deviation of the values, or NaN if there are none.
+   */
+  public double getStandardDeviation() {
+    return count > 0 ? Math.sqrt(squares / count) : Double.NaN;
+  }
+
+  /**
+   * @return The least value, or positive infinity if there are none.
+   */
+  public double getMin() {
+    return min;
+  }
+
+  /**
+   * @return The greatest value, or negative infinity if there are none.
+   */
+  public double getMax() {
+    return max;
+  }
+
+  /**
+   * @return The number of values equal to zero.
+   */
+  public long getZeros() {
+    return zeros;
+  }
+
+  /**
+   * @return The fraction of the values equal to zero, or NaN if there are none.
+   */
+  public double getZeroFraction() {
+    return count > 0 ? (double) zeros / count : Double.NaN;
+  }
+
+  @Override
+  public String toString() {
+    return "count[" + count + "], mean[" + getMean() + "], standard deviation["
+        + getStandardDeviation() + "], min[" + min + "], max[" + max + "], zeros[" + zeros + "]";
+  }
+}
@@ -0,0 +1,247 @@
+package eli.veritas;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.IntPredicate;
+
+/**
+ * The constraints a string must keep to, for {@link Verifier.Checker#ifViolates(String,
+ * CharSequence, StringRule, Object[]) ifViolates} checks: not being blank, bounds on its length,
+ * the characters allowed in it, a prefix, a suffix and a pattern. Only the constraints given to
+ * the {@link Builder} are checked.
+ *
+ * <p>All of the constraints are checked together in a single left-to-right scan over the string's
+ * code points, which stops as soon as no constraint can change its outcome, rather than a scan per
+ * constraint. A {@link LinearPattern#isLinear() linear} pattern is stepped along in the same scan,
+ * and only a pattern that fell back to {@link java.util.regex.Pattern} is matched separately.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @author The Architect
+ */
+public final class StringRule {
+
+  private final boolean notBlank;
+  private final int minLength;
+  private final int maxLength;
+  private final String allowedName;
+  private final IntPredicate allowed;
+  private final String prefix;
+  private final String suffix;
+  private final LinearPattern pattern;
+
+  private StringRule(final Builder builder) {
+    this.notBlank = builder.notBlank;
+    this.minLength = builder.minLength;
+    this.maxLength = builder.maxLength;
+    this.allowedName = builder.allowedName;
+    this.allowed = builder.allowed;
+    this.prefix = builder.prefix;
+    this.suffix = builder.suffix;
+    this.pattern = builder.pattern;
+  }
+
+  /**
+   * @return A new non-null {@link Builder} without any constraints.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @param actual The string to check, where null is checked as the empty string. (May be null)
+   * @return The non-null descriptions of the constraints <var>actual</var> violates, in the order
+   * of the {@link Builder} methods.
+   */
+  public List<String> violations(final CharSequence actual) {
+    final CharSequence chars = actual != null ? actual : "";
+    final int length = chars.length();
+    final int suffixStart = suffix != null ? length - suffix.length() : length;
+    final Automaton automaton = pattern != null ? pattern.automaton() : null;
+    final Automaton.Run run = automaton != null ? automaton.run() : null;
+
+    boolean blank = true;
+    int disallowedIndex = -1;
+    boolean prefixed = prefix == null || prefix.length() <= length;
+    boolean suffixed = suffixStart >= 0;
+    for (int i = 0; i < length; ) {
+      final int codePoint = Character.codePointAt(chars, i);
+      final int next = i + Character.charCount(codePoint);
+      blank &= Utf8.isWhitespace(codePoint);
+      if (allowed != null && disallowedIndex < 0 && !allowed.test(codePoint)) {
+        disallowedIndex = i;
+      }
+      for (int j = i; j < next; j++) {
+        if (prefix != null && j < prefix.length()) {
+          prefixed &= chars.charAt(j) == prefix.charAt(j);
+        }
+        if (j >= suffixStart && suffixed) {
+          suffixed = chars.charAt(j) == suffix.charAt(j - suffixStart);
+        }
+      }
+      if (run != null && run.isAlive()) {
+        run.step(codePoint);
+      }
+      i = next;
+      if ((!notBlank || !blank) && (allowed == null || disallowedIndex >= 0)
+          && (prefix == null || i >= prefix.length()) && (suffix == null || i <= suffixStart)
+          && (run == null || !run.isAlive())) {
+        // Later characters only decide the suffix, which is compared directly from its start.
+        suffixed = suffix == null || suffixed && regionMatches(chars, suffixStart, suffix);
+        break;
+      }
+    }
+
+    final List<String> violations = new ArrayList<>();
+    if (notBlank && blank) {
+      violations.add("blank");
+    }
+    if (length < minLength || length > maxLength) {
+      violations.add("length[" + length + "] ∉ [" + minLength + ", " + maxLength + "]");
+    }
+    if (disallowedIndex >= 0) {
+      violations.add("character['" + new String(Character.toChars(Character
+          .codePointAt(chars, disallowedIndex))) + "'] at index[" + disallowedIndex + "] ∉ "
+          + allowedName);
+    }
+    if (!prefixed) {
+      violations.add("prefix[\"" + prefix + "\"] missing");
+    }
+    if (!suffixed) {
+      violations.add("suffix[\"" + suffix + "\"] missing");
+    }
+    if (pattern != null && !(run != null ? run.firstMatch() >= 0 : pattern.matches(chars))) {
+      violations.add("pattern[\"" + pattern.pattern() + "\"] unmatched");
+    }
+    return violations;
+  }
+
+  private static boolean regionMatches(final CharSequence chars, final int start,
+      final String region) {
+    for (int i = 0; i < region.length(); i++) {
+      if (chars.charAt(start + i) != region.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    final StringJoiner constraints = new StringJoiner(", ");
+    if (notBlank) {
+      constraints.add("not blank");
+    }
+    if (minLength > 0 || maxLength < Integer.MAX_VALUE) {
+      constraints.add("length[" + minLength + ", " + maxLength + "]");
+    }
+    if (allowed != null) {
+      constraints.add(allowedName);
+    }
+    if (prefix != null) {
+      constraints.add("prefix[\"" + prefix + "\"]");
+    }
+    if (suffix != null) {
+      constraints.add("suffix[\"" + suffix + "\"]");
+    }
+    if (pattern != null) {
+      constraints.add("pattern[\"" + pattern.pattern() + "\"]");
+    }
+    return constraints.toString();
+  }
+
+  /**
+   * Collects the constraints to check. Any constraint not given is unlimited.
+   */
+  public static final class Builder {
+
+    private boolean notBlank;
+    private int minLength;
+    private int maxLength = Integer.MAX_VALUE;
+    private String allowedName;
+    private IntPredicate allowed;
+    private String prefix;
+    private String suffix;
+    private LinearPattern pattern;
+
+    private Builder() {
+    }
+
+    /**
+     * Requires a character other than whitespace, as matched by the {@code \s} regular expression
+     * class.
+     *
+     * @return This non-null {@link Builder}.
+     */
+    public Builder notBlank() {
+      this.notBlank = true;
+      return this;
+    }
+
+    /**
+     * @param min The least allowed length, in chars as {@link String#length()} counts them.
+     * @param max The greatest allowed length, in chars as {@link String#length()} counts them.
+     * @return This non-null {@link Builder}.
+     */
+    public Builder length(final int min, final int max) {
+      this.minLength = min;
+      this.maxLength = max;
+      return this;
+    }
+
+    /**
+     * @param name The name of the allowed characters, to describe a violation. (Cannot be null)
+     * @param allowed The predicate over code points accepting the allowed characters. (Cannot be
+     * null)
+     * @return This non-null {@link Builder}.
+     */
+    public Builder allowed(final String name, final IntPredicate allowed) {
+      this.allowedName = name;
+      this.allowed = allowed;
+      return this;
+    }
+
+    /**
+     * @param allowed The precompiled class of the allowed characters, named after it. (Cannot be
+     * null)
+     * @return This non-null {@link Builder}.
+     */
+    public Builder allowed(final CharClass allowed) {
+      return allowed(allowed.toString(), allowed);
+    }
+
+    /**
+     * @return This non-null {@link Builder}.
+     */
+    public Builder prefix(final String prefix) {
+      this.prefix = prefix;
+      return this;
+    }
+
+    /**
+     * @return This non-null {@link Builder}.
+     */
+    public Builder suffix(final String suffix) {
+      this.suffix = suffix;
+      return this;
+    }
+
+    /**
+     * @param pattern The pattern all of the string must match, which is matched within the same
+     * scan if it is {@link LinearPattern#isLinear() linear}. (Cannot be null)
+     * @return This non-null {@link Builder}.
+     */
+    public Builder pattern(final LinearPattern pattern) {
+      this.pattern = pattern;
+      return this;
+    }
+
+    /**
+     * @return A new non-null {@link StringRule} of the constraints given so far.
+     */
+    public StringRule build() {
+      return new StringRule(this);
+    }
+  }
+}
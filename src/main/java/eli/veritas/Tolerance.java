@@ -0,0 +1,177 @@
+package eli.veritas;
+
+/**
+ * How far apart two floating-point values may be and still be considered equal, for {@link
+ * Verifier.Checker#ifEqualWithError(String, double, double, Tolerance, Object[]) ifEqualWithError}
+ * and {@link Verifier.Checker#ifNotEqualWithError(String, double, double, Tolerance, Object[])
+ * ifNotEqualWithError} checks on single values and, element by element, on arrays.
+ *
+ * <p>An absolute tolerance bounds the difference itself, and so only suits values of a known
+ * magnitude. A relative tolerance bounds the difference as a fraction of the larger magnitude, and
+ * a ULP tolerance bounds the number of representable values between the two, and so both scale
+ * with the values. Combining an absolute with a relative tolerance accepts either, which keeps
+ * values near zero, where relative differences blow up, from failing on rounding noise.
+ *
+ * <p>NaN is within any tolerance of NaN, and an infinity only of the same infinity. Instances are
+ * immutable and thread-safe.
+ *
+ * @author The Architect
+ */
+public final class Tolerance {
+
+  private final double absolute;
+  private final double relative;
+  private final long ulps;
+
+  private Tolerance(final double absolute, final double relative, final long ulps) {
+    this.absolute = absolute;
+    this.relative = relative;
+    this.ulps = ulps;
+  }
+
+  /**
+   * @param epsilon The largest allowed difference. (Must be non-negative)
+   * @return A new non-null {@link Tolerance} of an absolute <var>epsilon</var>.
+   * @throws IllegalArgumentException If <var>epsilon</var> is negative or NaN.
+   */
+  public static Tolerance absolute(final double epsilon) {
+    return new Tolerance(requireNonNegative("epsilon", epsilon), 0, -1);
+  }
+
+  /**
+   * @param fraction The largest allowed difference, as a fraction of the larger magnitude of the
+   * two values. (Must be non-negative)
+   * @return A new non-null {@link Tolerance} of a relative <var>fraction</var>.
+   * @throws IllegalArgumentException If <var>fraction</var> is negative or NaN.
+   */
+  public static Tolerance relative(final double fraction) {
+    return new Tolerance(0, requireNonNegative("fraction", fraction), -1);
+  }
+
+  /**
+   * @param epsilon The largest allowed difference, whatever the values' magnitude. (Must be
+   * non-negative)
+   * @param fraction The largest allowed difference, as a fraction of the larger magnitude of the
+   * two values. (Must be non-negative)
+   * @return A new non-null {@link Tolerance} that accepts values within either an absolute
+   * <var>epsilon</var> or a relative <var>fraction</var> of each other.
+   * @throws IllegalArgumentException If <var>epsilon</var> or <var>fraction</var> is negative or
+   * NaN.
+   */
+  public static Tolerance absoluteOrRelative(final double epsilon, final double fraction) {
+    return new Tolerance(requireNonNegative("epsilon", epsilon),
+        requireNonNegative("fraction", fraction), -1);
+  }
+
+  /**
+   * @param ulps The largest allowed number of units in the last place between the two values, i.e.
+   * of steps from one representable value to the next. (Must be non-negative)
+   * @return A new non-null {@link Tolerance} of <var>ulps</var> units in the last place.
+   * @throws IllegalArgumentException If <var>ulps</var> is negative.
+   */
+  public static Tolerance ulps(final long ulps) {
+    if (ulps < 0) {
+      throw new IllegalArgumentException("Ulps[" + ulps + "] cannot be negative.");
+    }
+    return new Tolerance(0, 0, ulps);
+  }
+
+  private static double requireNonNegative(final String name, final double value) {
+    if (!(value >= 0)) {
+      throw new IllegalArgumentException(
+          Character.toUpperCase(name.charAt(0)) + name.substring(1) + "[" + value
+              + "] must be non-negative.");
+    }
+    return value;
+  }
+
+  /**
+   * @return True if <var>actual</var> is within this tolerance of <var>expected</var>.
+   */
+  public boolean isWithin(final double actual, final double expected) {
+    return excess(actual, expected) <= 1;
+  }
+
+  /**
+   * @return True if <var>actual</var> is within this tolerance of <var>expected</var>, counting
+   * units in the last place of {@code float}.
+   */
+  public boolean isWithin(final float actual, final float expected) {
+    return excess(actual, expected) <= 1;
+  }
+
+  /**
+   * @return How far <var>actual</var> is from <var>expected</var> as a multiple of this tolerance,
+   * which is at most 1 if it is within it, and infinite if no tolerance would do.
+   */
+  double excess(final double actual, final double expected) {
+    if (actual == expected || Double.isNaN(actual) && Double.isNaN(expected)) {
+      return 0;
+    } else if (Double.isNaN(actual) || Double.isNaN(expected) || Double.isInfinite(actual)
+        || Double.isInfinite(expected)) {
+      return Double.POSITIVE_INFINITY;
+    } else if (ulps >= 0) {
+      return ratio(ulpDistance(orderedBits(actual), orderedBits(expected)), ulps);
+    }
+    final double difference = Math.abs(actual - expected);
+    final double allowed = Math.max(absolute,
+        relative * Math.max(Math.abs(actual), Math.abs(expected)));
+    return ratio(difference, allowed);
+  }
+
+  /**
+   * As {@link #excess(double, double)}, but counting units in the last place of {@code float}.
+   */
+  double excess(final float actual, final float expected) {
+    if (ulps >= 0 && !Float.isNaN(actual) && !Float.isNaN(expected)
+        && !Float.isInfinite(actual) && !Float.isInfinite(expected)) {
+      return ratio(ulpDistance(orderedBits(actual), orderedBits(expected)), ulps);
+    }
+    return excess((double) actual, (double) expected);
+  }
+
+  private static double ratio(final double difference, final double allowed) {
+    if (difference == 0) {
+      return 0;
+    }
+    return allowed > 0 ? difference / allowed : Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * @return The bits of <var>value</var>, reordered so that they compare as signed integers in the
+   * same order as the values, with both zeros adjacent.
+   */
+  private static long orderedBits(final double value) {
+    final long bits = Double.doubleToRawLongBits(value);
+    return bits < 0 ? Long.MIN_VALUE - bits : bits;
+  }
+
+  private static long orderedBits(final float value) {
+    final int bits = Float.floatToRawIntBits(value);
+    return bits < 0 ? Integer.MIN_VALUE - bits : bits;
+  }
+
+  /**
+   * @return The distance between two ordered bit patterns, saturating rather than overflowing for
+   * values of opposite signs at the far ends of the range.
+   */
+  private static double ulpDistance(final long bits1, final long bits2) {
+    final long distance = bits1 - bits2;
+    if ((bits1 ^ bits2) < 0 && (bits1 ^ distance) < 0) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return Math.abs((double) distance);
+  }
+
+  @Override
+  public String toString() {
+    if (ulps >= 0) {
+      return "ε[" + ulps + " ulp]";
+    } else if (relative == 0) {
+      return "ε[" + absolute + "]";
+    } else if (absolute == 0) {
+      return "ε[" + relative + " relative]";
+    }
+    return "ε[" + absolute + " or " + relative + " relative]";
+  }
+}
@@ -0,0 +1,267 @@
+package eli.veritas;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads UTF-8 encoded {@link ByteBuffer} slices in place. Every method reads the bytes between the
+ * buffer's position and limit with absolute gets, so neither the buffer's position nor its
+ * contents are changed, and nothing is decoded into an intermediate {@link String}. Malformed
+ * sequences are read as one {@link #replacement} character per offending byte, the same as a
+ * {@link java.nio.charset.CodingErrorAction#REPLACE replacing} decoder.
+ *
+ * @author The Architect
+ */
+final class Utf8 {
+
+  static final int replacement = '�';
+
+  private Utf8() {
+  }
+
+  /**
+   * @return The number of bytes of the code point starting at <var>index</var>, or 1 if the bytes
+   * there are malformed.
+   */
+  static int sequenceLength(final ByteBuffer buffer, final int index) {
+    final int lead = buffer.get(index) & 0xFF;
+    final int length;
+    if (lead < 0x80) {
+      return 1;
+    } else if (lead >= 0xC2 && lead <= 0xDF) {
+      length = 2;
+    } else if (lead >= 0xE0 && lead <= 0xEF) {
+      length = 3;
+    } else if (lead >= 0xF0 && lead <= 0xF4) {
+      length = 4;
+    } else {
+      return 1;
+    }
+    if (index + length > buffer.limit()) {
+      return 1;
+    }
+    for (int i = 1; i < length; i++) {
+      if ((buffer.get(index + i) & 0xC0) != 0x80) {
+        return 1;
+      }
+    }
+    final int second = buffer.get(index + 1) & 0xFF;
+    if (lead == 0xE0 && second < 0xA0 || lead == 0xED && second > 0x9F
+        || lead == 0xF0 && second < 0x90 || lead == 0xF4 && second > 0x8F) {
+      return 1;
+    }
+    return length;
+  }
+
+  /**
+   * @param length The {@link #sequenceLength sequence length} of the code point starting at
+   * <var>index</var>.
+   * @return The code point starting at <var>index</var>, or {@link #replacement} if malformed.
+   */
+  static int codePointAt(final ByteBuffer buffer, final int index, final int length) {
+    final int lead = buffer.get(index) & 0xFF;
+    switch (length) {
+      case 2:
+        return (lead & 0x1F) << 6 | buffer.get(index + 1) & 0x3F;
+      case 3:
+        return (lead & 0x0F) << 12 | (buffer.get(index + 1) & 0x3F) << 6
+            | buffer.get(index + 2) & 0x3F;
+      case 4:
+        return (lead & 0x07) << 18 | (buffer.get(index + 1) & 0x3F) << 12
+            | (buffer.get(index + 2) & 0x3F) << 6 | buffer.get(index + 3) & 0x3F;
+      default:
+        return lead < 0x80 ? lead : replacement;
+    }
+  }
+
+  /**
+   * @return True if <var>c</var> is one of the whitespace characters matched by the {@code \s}
+   * regular expression class.
+   */
+  static boolean isWhitespace(final int c) {
+    return c == ' ' || c >= '\t' && c <= '\r';
+  }
+
+  /**
+   * @return True if the code points are equal ignoring case, by the same rules as {@link
+   * String#equalsIgnoreCase}.
+   */
+  static boolean isEqualIgnoringCase(final int codePoint1, final int codePoint2) {
+    final int upperCase1 = Character.toUpperCase(codePoint1);
+    final int upperCase2 = Character.toUpperCase(codePoint2);
+    return upperCase1 == upperCase2
+        || Character.toLowerCase(upperCase1) == Character.toLowerCase(upperCase2);
+  }
+
+  /**
+   * @return True if every byte of <var>buffer</var> is ASCII.
+   */
+  static boolean isAscii(final ByteBuffer buffer) {
+    for (int i = buffer.position(); i < buffer.limit(); i++) {
+      if (buffer.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return True if <var>buffer</var> contains only the whitespace matched by {@code \s}, i.e.
+   * would be blank once decoded. Whitespace is always ASCII, so this needs no
+   * decoding at all.
+   */
+  static boolean isBlank(final ByteBuffer buffer) {
+    for (int i = buffer.position(); i < buffer.limit(); i++) {
+      if (!isWhitespace(buffer.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return The number of UTF-16 {@code char} values <var>buffer</var> decodes to, i.e. the {@link
+   * String#length()} of its decoded form.
+   */
+  static int length(final ByteBuffer buffer) {
+    int length = 0;
+    for (int i = buffer.position(); i < buffer.limit(); ) {
+      final int sequenceLength = sequenceLength(buffer, i);
+      length += sequenceLength == 4 ? 2 : 1;
+      i += sequenceLength;
+    }
+    return length;
+  }
+
+  /**
+   * Counts the bytes of <var>chars</var> char by char, without encoding it, and stops as soon as
+   * the count exceeds <var>limit</var>.
+   *
+   * @return The number of bytes <var>chars</var> encodes to, the same as the length of {@link
+   * String#getBytes(java.nio.charset.Charset)} in UTF-8 where an unpaired surrogate is replaced by
+   * a single byte, or a count above <var>limit</var> once it is exceeded.
+   */
+  static long encodedLength(final CharSequence chars, final long limit) {
+    final int length = chars.length();
+    long encodedLength = 0;
+    for (int i = 0; i < length && encodedLength <= limit; i++) {
+      final char c = chars.charAt(i);
+      if (c < 0x80) {
+        encodedLength++;
+      } else if (c < 0x800) {
+        encodedLength += 2;
+      } else if (!Character.isSurrogate(c)) {
+        encodedLength += 3;
+      } else if (Character.isHighSurrogate(c) && i + 1 < length
+          && Character.isLowSurrogate(chars.charAt(i + 1))) {
+        encodedLength += 4;
+        i++;
+      } else {
+        encodedLength++;
+      }
+    }
+    return encodedLength;
+  }
+
+  /**
+   * Compares <var>buffer</var> with <var>expected</var> code point by code point.
+   *
+   * @param caseSensitive False to compare code points the way {@link String#equalsIgnoreCase}
+   * compares characters.
+   */
+  static boolean isEqual(final ByteBuffer buffer, final CharSequence expected,
+      final boolean caseSensitive) {
+    int i = buffer.position();
+    int j = 0;
+    while (i < buffer.limit() && j < expected.length()) {
+      final int sequenceLength = sequenceLength(buffer, i);
+      final int actualCodePoint = codePointAt(buffer, i, sequenceLength);
+      final int expectedCodePoint = Character.codePointAt(expected, j);
+      if (actualCodePoint != expectedCodePoint && (caseSensitive
+          || !isEqualIgnoringCase(actualCodePoint, expectedCodePoint))) {
+        return false;
+      }
+      i += sequenceLength;
+      j += Character.charCount(expectedCodePoint);
+    }
+    return i == buffer.limit() && j == expected.length();
+  }
+
+  /**
+   * @return A {@link CharSequence} view of <var>buffer</var> that decodes lazily.
+   */
+  static CharSequence asCharSequence(final ByteBuffer buffer) {
+    return new Chars(buffer);
+  }
+
+  /**
+   * A {@link CharSequence} view of a UTF-8 {@link ByteBuffer} slice. Sequential reads decode each
+   * byte once, so rendering a bounded prefix only decodes the bytes that are rendered; ASCII-only
+   * slices are also read randomly in constant time.
+   */
+  private static final class Chars implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private int length = -1;
+    private boolean ascii;
+
+    private int cursorIndex;
+    private int cursorPosition;
+
+    private Chars(final ByteBuffer buffer) {
+      this.buffer = buffer;
+      this.start = buffer.position();
+      this.cursorPosition = start;
+    }
+
+    @Override
+    public int length() {
+      if (length < 0) {
+        ascii = isAscii(buffer);
+        length = ascii ? buffer.limit() - start : Utf8.length(buffer);
+      }
+      return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+      if (index < 0 || index >= length()) {
+        throw new IndexOutOfBoundsException("Index[" + index + "] length[" + length + "]");
+      } else if (ascii) {
+        return (char) buffer.get(start + index);
+      }
+      if (index < cursorIndex) {
+        cursorIndex = 0;
+        cursorPosition = start;
+      }
+      while (true) {
+        final int sequenceLength = sequenceLength(buffer, cursorPosition);
+        final int codePoint = codePointAt(buffer, cursorPosition, sequenceLength);
+        final int charCount = Character.charCount(codePoint);
+        if (index < cursorIndex + charCount) {
+          if (charCount == 1) {
+            return (char) codePoint;
+          }
+          return index == cursorIndex ? Character.highSurrogate(codePoint)
+              : Character.lowSurrogate(codePoint);
+        }
+        cursorIndex += charCount;
+        cursorPosition += sequenceLength;
+      }
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+      final StringBuilder builder = new StringBuilder(end - start);
+      for (int i = start; i < end; i++) {
+        builder.append(charAt(i));
+      }
+      return builder;
+    }
+
+    @Override
+    public String toString() {
+      return subSequence(0, length()).toString();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package eli.veritas;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An immutable index of allowed or denied values, built once and shared across threads for {@link
+ * Verifier.Checker#ifIn ifIn} and {@link Verifier.Checker#ifNotIn ifNotIn} checks, so the values
+ * are not hashed again on every check.
+ *
+ * <p>Values are indexed by hash, except that a set of constants of a single enum type is indexed
+ * as an {@link EnumSet} bit vector. Deny lists too large for the heap are better kept in a {@link
+ * MappedValueSet}.
+ *
+ * @param <T> The type of values.
+ * @author The Architect
+ */
+public final class ValueSet<T> {
+
+  private final Set<T> values;
+
+  private ValueSet(final Set<T> values) {
+    this.values = values;
+  }
+
+  /**
+   * @param values The values to index. (May contain null)
+   * @return A new non-null {@link ValueSet} of <var>values</var>.
+   */
+  @SafeVarargs
+  public static <T> ValueSet<T> of(final T... values) {
+    return of(Arrays.asList(values));
+  }
+
+  /**
+   * @param values The values to index. (Cannot be null, but may contain null)
+   * @return A new non-null {@link ValueSet} of <var>values</var>.
+   */
+  public static <T> ValueSet<T> of(final Collection<? extends T> values) {
+    return new ValueSet<>(index(values));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <T> Set<T> index(final Collection<? extends T> values) {
+    Class<?> enumType = null;
+    for (final T value : values) {
+      if (!(value instanceof Enum)) {
+        enumType = null;
+        break;
+      }
+      final Class<?> type = ((Enum<?>) value).getDeclaringClass();
+      if (enumType != null && enumType != type) {
+        enumType = null;
+        break;
+      }
+      enumType = type;
+    }
+    if (enumType != null) {
+      return Collections.unmodifiableSet(EnumSet.copyOf((Collection) values));
+    }
+    return Collections.unmodifiableSet(new HashSet<>(values));
+  }
+
+  /**
+   * @return True if <var>value</var> is one of the indexed values.
+   */
+  public boolean contains(final Object value) {
+    return values.contains(value);
+  }
+
+  /**
+   * @return The non-null, unmodifiable indexed values.
+   */
+  public Set<T> values() {
+    return values;
+  }
+
+  /**
+   * @return The number of indexed values.
+   */
+  public int size() {
+    return values.size();
+  }
+
+  @Override
+  public String toString() {
+    return values.toString();
+  }
+}
@@ -1,19 +1,44 @@
 package eli.veritas;
 
 import com.google.common.collect.Lists;
+import com.google.common.primitives.Ints;
 import eli.veritas.exception.CompositeException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.DoubleStream;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * A utility class that can be used to check or assert a variety of general conditions.
@@ -55,17 +80,47 @@ public class Verifier {
    * to validate a single {@link Class}.
    */
   public static <S> Checker<S> forChecking(final Class<?> clazz) {
-    return new Checker<>(clazz);
+    return new Checker<>(clazz, RenderingBudget.DEFAULT);
+  }
+
+  /**
+   * @param clazz The class to validate. (Cannot be null)
+   * @param budget The {@link RenderingBudget} bounding the size of every diagnostic message.
+   * (Cannot be null)
+   * @return A new non-null {@link Checker} instance for constructing a {@link CompositeException}
+   * to validate a single {@link Class}.
+   */
+  public static <S> Checker<S> forChecking(final Class<?> clazz, final RenderingBudget budget) {
+    return new Checker<>(clazz, budget);
   }
 
   public static class Checker<S> {
 
     private final String className;
+    private final RenderingBudget budget;
     private final List<String> messages = new LinkedList<>();
     private final List<S> values = new LinkedList<>();
 
-    private Checker(final Class<?> clazz) {
+    private Checker(final Class<?> clazz, final RenderingBudget budget) {
       this.className = clazz.getSimpleName();
+      this.budget = budget;
+    }
+
+    private void addMessage(final String format, final String fieldLabel,
+        final Object... arguments) {
+      final Object[] formatArguments = new Object[arguments.length + 2];
+      formatArguments[0] = className;
+      formatArguments[1] = fieldLabel;
+      for (int i = 0; i < arguments.length; i++) {
+        formatArguments[i + 2] = budget.renderArgument(arguments[i]);
+      }
+      messages.add(budget.truncateMessage(MessageFormat.format(format, formatArguments)));
+    }
+
+    private void addFieldsMessage(final String format, final String field1Label,
+        final String field2Label) {
+      messages.add(budget
+          .truncateMessage(MessageFormat.format(format, className, field1Label, field2Label)));
     }
 
     private void addValues(final S... values) {
@@ -75,45 +130,117 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Strings#isBlank is blank}, i.e. is either null,
-     * empty, or contains only whitespace.
-     * <blockquote>{@value Strings#formatBlank}</blockquote>
-     *
-     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
-     * blank)
-     * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param values Additional indicator values that corresponds to the potential failure. (May be
-     * null)
-     * @return This non-null {@link Checker}.
+     * Adds the message of <var>format</var> with the {@link CollectionDiff} of <var>actual</var>
+     * against <var>expected</var>, or the plain {@link Equality#formatNotEqual} message if either
+     * is null or they differ only in order or collection type.
      */
-    public Checker<S> ifBlank(final String fieldLabel, final String actual, final S... values) {
-      if (Verifier.Strings.isBlank.test(actual)) {
-        messages.add(MessageFormat.format(Strings.formatBlank, className, fieldLabel, actual));
+    private void addDiffMessage(final String format, final String fieldLabel,
+        final Collection<?> actual, final Collection<?> expected) {
+      final CollectionDiff diff = actual != null && expected != null
+          ? CollectionDiff.of(actual, expected, budget.getMaxElements()) : null;
+      if (diff == null || diff.isEmpty()) {
+        addMessage(Equality.formatNotEqual, fieldLabel, actual, expected);
+      } else {
+        addMessage(format, fieldLabel, actual, expected, diff.getMissing(), diff.getUnexpected(),
+            diff.getMiscounted());
+      }
+    }
+
+    private Checker<S> ifEqualArrays(final String fieldLabel, final Object actual,
+        final Object expected, final int mismatch, final S... values) {
+      if (mismatch < 0) {
+        addMessage(Equality.formatEqual, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    private Checker<S> ifNotEqualArrays(final String fieldLabel, final Object actual,
+        final Object expected, final int mismatch, final S... values) {
+      if (mismatch >= 0) {
+        addMessage(Equality.formatNotEqualArray, fieldLabel, actual, expected, mismatch,
+            Equality.window(actual, mismatch), Equality.window(expected, mismatch));
         addValues(values);
       }
 
       return this;
     }
 
+    private Checker<S> ifNotEqualWithTolerance(final String fieldLabel, final Object actual,
+        final Object expected, final Tolerance tolerance, final int worst, final S... values) {
+      if (worst == Equality.lengthMismatch) {
+        addMessage(Equality.formatNotEqualWithTolerance, fieldLabel, actual, expected, tolerance);
+        addValues(values);
+      } else if (worst != Equality.withinTolerance) {
+        addMessage(Equality.formatNotEqualArrayWithTolerance, fieldLabel, actual, expected,
+            tolerance, Equality.countOutside(actual, expected, tolerance), worst,
+            String.valueOf(Array.get(actual, worst)),
+            String.valueOf(Array.get(expected, worst)));
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    private Checker<S> ifDuplicates(final String format, final String fieldLabel,
+        final Object actual, final int count, final List<Collections.Duplicate> duplicates,
+        final S... values) {
+      if (count > 0) {
+        addMessage(format, fieldLabel, actual, count, duplicates);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    private Checker<S> ifInverted(final String format, final String fieldLabel,
+        final Object actual, final int index, final S... values) {
+      if (index >= 0) {
+        addMessage(format, fieldLabel, actual, index, Sequences.element(actual, index - 1),
+            Sequences.element(actual, index));
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    private <A, B> Checker<S> ifOrphans(final String format, final String fieldLabel,
+        final Collection<A> actual, final Function<? super A, ?> actualKey,
+        final Collection<B> other, final Function<? super B, ?> otherKey, final S... values) {
+      if (actual != null) {
+        final List<Object> keys = new ArrayList<>();
+        final int count = Collections.orphans(actual, actualKey,
+            other != null ? other : java.util.Collections.emptyList(), otherKey,
+            budget.getMaxElements(), keys);
+        if (count > 0) {
+          addMessage(format, fieldLabel, actual, count, other, keys);
+          addValues(values);
+        }
+      }
+
+      return this;
+    }
+
     /**
-     * Asserts that <var>actual</var> input {@link Collections#containsAllValues(Collection,
-     * Collection) contains all values} of the
-     * <var>expected</var> {@link Collection}.
-     * <blockquote>{@value Collections#formatContainsAllValues}</blockquote>
+     * Asserts that <var>actual</var> input {@link Dates#isAfter(long, int, long) is after} the
+     * current time of the provided <var>clock</var>.
+     * <blockquote>{@value Dates#formatAfter}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> values to compare against.
+     * @param clock The {@link Clock} to read the current time from, e.g. a {@link CoarseClock}.
+     * (Cannot be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifContainsAllValues(final String fieldLabel, final Collection<T> actual,
-        final Collection<T> expected, final S... values) {
-      if (Verifier.Collections.containsAllValues(actual, expected)) {
-        messages.add(MessageFormat
-            .format(Collections.formatContainsAllValues, className, fieldLabel, actual, expected));
+    public Checker<S> ifAfter(final String fieldLabel, final Instant actual, final Clock clock,
+        final S... values) {
+      final long now = clock.millis();
+      if (actual != null && Dates.isAfter(actual.getEpochSecond(), actual.getNano(), now)) {
+        addMessage(Dates.formatAfter, fieldLabel, actual, Instant.ofEpochMilli(now));
         addValues(values);
       }
 
@@ -121,24 +248,26 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Collections#containsAnyValues(Collection,
-     * Collection) contains any values} of the
-     * <var>expected</var> {@link Collection}.
-     * <blockquote>{@value Collections#formatContainsAnyValues}</blockquote>
+     * Asserts that <var>actual</var> epoch milliseconds input is after the current time of the
+     * provided <var>clock</var>.
+     * <blockquote>{@value Dates#formatAfter}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> values to compare against.
+     * @param actual The <var>actual</var> input to assert against the expectations, in
+     * milliseconds since the epoch.
+     * @param clock The {@link Clock} to read the current time from, e.g. a {@link CoarseClock}.
+     * (Cannot be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifContainsAnyValues(final String fieldLabel, final Collection<T> actual,
-        final Collection<T> expected, final S... values) {
-      if (Verifier.Collections.containsAnyValues(actual, expected)) {
-        messages.add(MessageFormat
-            .format(Collections.formatContainsAnyValues, className, fieldLabel, actual, expected));
+    public Checker<S> ifAfter(final String fieldLabel, final long actual, final Clock clock,
+        final S... values) {
+      final long now = clock.millis();
+      if (actual > now) {
+        addMessage(Dates.formatAfter, fieldLabel, Instant.ofEpochMilli(actual),
+            Instant.ofEpochMilli(now));
         addValues(values);
       }
 
@@ -146,24 +275,26 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Collections#containsNoValues(Collection,
-     * Collection) contains no values} of the
-     * <var>expected</var> {@link Collection}.
-     * <blockquote>{@value Collections#formatContainsNoValues}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link IntegerSet#indexOfFirstIn is in}
+     * the compressed <var>expected</var> {@link IntegerSet}, reporting the first such element,
+     * without boxing.
+     * <blockquote>{@value Collections#formatAnyInInteger}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> values to compare against.
+     * @param expected The compressed <var>expected</var> values to compare against. (Cannot be
+     * null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifContainsNoValues(final String fieldLabel, final Collection<T> actual,
-        final Collection<T> expected, final S... values) {
-      if (Verifier.Collections.containsNoValues(actual, expected)) {
-        messages.add(MessageFormat
-            .format(Collections.formatContainsNoValues, className, fieldLabel, actual, expected));
+    public Checker<S> ifAnyIn(final String fieldLabel, final int[] actual,
+        final IntegerSet expected, final S... values) {
+      final int index = actual != null ? expected.indexOfFirstIn(actual) : -1;
+      if (index >= 0) {
+        addMessage(Collections.formatAnyInInteger, fieldLabel, actual, index, actual[index],
+            expected.size());
         addValues(values);
       }
 
@@ -171,9 +302,9 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Strings#isEmpty is empty}, i.e. is either null,
-     * or empty.
-     * <blockquote>{@value Strings#formatEmpty}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countNegative is
+     * negative}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyNegative}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
@@ -182,9 +313,13 @@ public class Verifier {
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifEmpty(final String fieldLabel, final String actual, final S... values) {
-      if (Verifier.Strings.isEmpty.test(actual)) {
-        messages.add(MessageFormat.format(Strings.formatEmpty, className, fieldLabel, actual));
+    public Checker<S> ifAnyNegative(final String fieldLabel, final int[] actual,
+        final S... values) {
+      final int count = actual != null ? PrimitiveArrays.countNegative(actual) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> actual[i] < 0);
+        addMessage(PrimitiveArrays.formatAnyNegative, fieldLabel, actual, count, indices);
         addValues(values);
       }
 
@@ -192,22 +327,24 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Collections#isEmpty is empty}.
-     * <blockquote>{@value Collections#formatEmptyCollection}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countNegative is
+     * negative}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyNegative}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
-     * @param <T> The type of {@link Collection} to check.
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifEmpty(final String fieldLabel, final Collection<T> actual,
+    public Checker<S> ifAnyNegative(final String fieldLabel, final long[] actual,
         final S... values) {
-      if (Verifier.Collections.isEmpty.test(actual)) {
-        messages.add(
-            MessageFormat.format(Collections.formatEmptyCollection, className, fieldLabel, actual));
+      final int count = actual != null ? PrimitiveArrays.countNegative(actual) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> actual[i] < 0);
+        addMessage(PrimitiveArrays.formatAnyNegative, fieldLabel, actual, count, indices);
         addValues(values);
       }
 
@@ -215,23 +352,24 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualString is equal to} the
-     * <var>expected</var> input.
-     * <blockquote>{@value Equality#formatEqualString}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countNegative is
+     * negative}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyNegative}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifEqual(final String fieldLabel, final String actual, final String expected,
-        final boolean caseSensitive, final S... values) {
-      if (Equality.isEqualString(actual, expected, caseSensitive)) {
-        messages.add(MessageFormat
-            .format(Equality.formatEqualString, className, fieldLabel, actual, expected));
+    public Checker<S> ifAnyNegative(final String fieldLabel, final double[] actual,
+        final S... values) {
+      final int count = actual != null ? PrimitiveArrays.countNegative(actual) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> actual[i] < 0);
+        addMessage(PrimitiveArrays.formatAnyNegative, fieldLabel, actual, count, indices);
         addValues(values);
       }
 
@@ -239,23 +377,25 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualCollection is equal to} the
-     * <var>expected</var> input.
-     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countNotBelow is
+     * not below}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyNotBelow}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
+     * @param bound The exclusive upper <var>bound</var> of every element.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifEqual(final String fieldLabel, final Collection<T> actual,
-        final Collection<T> expected, final S... values) {
-      if (Equality.isEqualCollection(actual, expected)) {
-        messages.add(
-            MessageFormat.format(Equality.formatEqual, className, fieldLabel, actual, expected));
+    public Checker<S> ifAnyNotBelow(final String fieldLabel, final int[] actual,
+        final int bound, final S... values) {
+      final int count = actual != null ? PrimitiveArrays.countNotBelow(actual, bound) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> !(actual[i] < bound));
+        addMessage(PrimitiveArrays.formatAnyNotBelow, fieldLabel, actual, count, indices, bound);
         addValues(values);
       }
 
@@ -263,23 +403,25 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualCollection is equal to} the
-     * <var>expected</var> input.
-     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countNotBelow is
+     * not below}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyNotBelow}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
+     * @param bound The exclusive upper <var>bound</var> of every element.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifEqual(final String fieldLabel, final T actual, final T expected,
-        final S... values) {
-      if (Equality.isEqualObject(actual, expected)) {
-        messages.add(
-            MessageFormat.format(Equality.formatEqual, className, fieldLabel, actual, expected));
+    public Checker<S> ifAnyNotBelow(final String fieldLabel, final long[] actual,
+        final long bound, final S... values) {
+      final int count = actual != null ? PrimitiveArrays.countNotBelow(actual, bound) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> !(actual[i] < bound));
+        addMessage(PrimitiveArrays.formatAnyNotBelow, fieldLabel, actual, count, indices, bound);
         addValues(values);
       }
 
@@ -287,27 +429,25 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(Instant,
-     * Instant, long) is equal to} the <var>expected</var> within the provided
-     * <var>tolerance</var>.
-     * <blockquote>{@value Equality#formatEqualWithError}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countNotBelow is
+     * not below}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyNotBelow}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual1</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
-     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var> in
-     * seconds. (Must be positive)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param bound The exclusive upper <var>bound</var> of every element.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifEqualDate(final String fieldLabel, final Instant actual,
-        final Instant expected, final long tolerance, final S... values) {
-      if (Equality.isEqualDateWithTolerance(actual, expected, tolerance)) {
-        messages.add(MessageFormat
-            .format(Equality.formatEqualDateWithTolerance, className, fieldLabel, actual, expected,
-                tolerance));
+    public Checker<S> ifAnyNotBelow(final String fieldLabel, final double[] actual,
+        final double bound, final S... values) {
+      final int count = actual != null ? PrimitiveArrays.countNotBelow(actual, bound) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> !(actual[i] < bound));
+        addMessage(PrimitiveArrays.formatAnyNotBelow, fieldLabel, actual, count, indices, bound);
         addValues(values);
       }
 
@@ -315,27 +455,24 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(LocalDateTime,
-     * LocalDateTime, long) is equal to} the
-     * <var>expected</var> within the provided <var>tolerance</var>.
-     * <blockquote>{@value Equality#formatEqualDateWithTolerance}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countNotFinite is
+     * NaN or infinite}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyNotFinite}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual1</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
-     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var> in
-     * seconds. (Must be positive)
+     * @param actual The <var>actual</var> input to assert against the expectations.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifEqualDate(final String fieldLabel, final LocalDateTime actual,
-        final LocalDateTime expected, final long tolerance, final S... values) {
-      if (Equality.isEqualDateWithTolerance(actual, expected, tolerance)) {
-        messages.add(MessageFormat
-            .format(Equality.formatEqualDateWithTolerance, className, fieldLabel, actual, expected,
-                tolerance));
+    public Checker<S> ifAnyNotFinite(final String fieldLabel, final double[] actual,
+        final S... values) {
+      final int count = actual != null ? PrimitiveArrays.countNotFinite(actual) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> Double.isNaN(actual[i]) || Double.isInfinite(actual[i]));
+        addMessage(PrimitiveArrays.formatAnyNotFinite, fieldLabel, actual, count, indices);
         addValues(values);
       }
 
@@ -343,24 +480,26 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualWithError is equal to} the
-     * <var>expected</var> input.
-     * <blockquote>{@value Equality#formatEqualWithError}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link IntegerSet#indexOfFirstNotIn is
+     * not in} the compressed <var>expected</var> {@link IntegerSet}, reporting the first such
+     * element, without boxing.
+     * <blockquote>{@value Collections#formatAnyNotInInteger}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
+     * @param expected The compressed <var>expected</var> values to compare against. (Cannot be
+     * null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifEqualWithError(final String fieldLabel, final double actual,
-        final double expected, final double epsilon, final S... values) {
-      if (Equality.isEqualWithError(actual, expected, epsilon)) {
-        messages.add(MessageFormat
-            .format(Equality.formatEqualWithError, className, fieldLabel, actual, expected,
-                epsilon));
+    public Checker<S> ifAnyNotIn(final String fieldLabel, final int[] actual,
+        final IntegerSet expected, final S... values) {
+      final int index = actual != null ? expected.indexOfFirstNotIn(actual) : -1;
+      if (index >= 0) {
+        addMessage(Collections.formatAnyNotInInteger, fieldLabel, actual, index, actual[index],
+            expected.size());
         addValues(values);
       }
 
@@ -368,23 +507,28 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Strings#matches matches} the regular expression
-     * <var>pattern</var> input.
-     * <blockquote>{@value Strings#formatMatches}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countOutsideRange
+     * is outside the range}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyOutsideRange}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param pattern The regular expression <var>pattern</var> value to compare against.
+     * @param lowerBound The inclusive lower bound of every element.
+     * @param upperBound The inclusive upper bound of every element.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifMatches(final String fieldLabel, final String actual, final String pattern,
-        final S... values) {
-      if (Strings.matches.test(actual, pattern)) {
-        messages.add(
-            MessageFormat.format(Strings.formatMatches, className, fieldLabel, actual, pattern));
+    public Checker<S> ifAnyOutsideRange(final String fieldLabel, final int[] actual,
+        final int lowerBound, final int upperBound, final S... values) {
+      final int count = actual != null
+          ? PrimitiveArrays.countOutsideRange(actual, lowerBound, upperBound) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> !(actual[i] >= lowerBound && actual[i] <= upperBound));
+        addMessage(PrimitiveArrays.formatAnyOutsideRange, fieldLabel, actual, count, indices,
+            lowerBound, upperBound);
         addValues(values);
       }
 
@@ -392,24 +536,28 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Collections#matchesAllValues(Collection,
-     * Predicate) matches all values} of the
-     * <var>expected</var> {@link Predicate lambda}.
-     * <blockquote>{@value Collections#formatMatchesAllValues}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countOutsideRange
+     * is outside the range}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyOutsideRange}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param matcher The <var>expected</var> matcher to compare against.
+     * @param lowerBound The inclusive lower bound of every element.
+     * @param upperBound The inclusive upper bound of every element.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifMatchesAllValues(final String fieldLabel, final Collection<T> actual,
-        final Predicate<T> matcher, final S... values) {
-      if (Collections.matchesAllValues(actual, matcher)) {
-        messages.add(MessageFormat
-            .format(Collections.formatMatchesAllValues, className, fieldLabel, actual));
+    public Checker<S> ifAnyOutsideRange(final String fieldLabel, final long[] actual,
+        final long lowerBound, final long upperBound, final S... values) {
+      final int count = actual != null
+          ? PrimitiveArrays.countOutsideRange(actual, lowerBound, upperBound) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> !(actual[i] >= lowerBound && actual[i] <= upperBound));
+        addMessage(PrimitiveArrays.formatAnyOutsideRange, fieldLabel, actual, count, indices,
+            lowerBound, upperBound);
         addValues(values);
       }
 
@@ -417,24 +565,28 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Collections#matchesAnyValues(Collection,
-     * Predicate) matches any values} of the
-     * <var>expected</var> {@link Predicate lambda}.
-     * <blockquote>{@value Collections#formatMatchesAnyValues}</blockquote>
+     * Asserts that any element of <var>actual</var> input {@link PrimitiveArrays#countOutsideRange
+     * is outside the range}, reporting the offending indices.
+     * <blockquote>{@value PrimitiveArrays#formatAnyOutsideRange}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param matcher The <var>expected</var> matcher to compare against.
+     * @param lowerBound The inclusive lower bound of every element.
+     * @param upperBound The inclusive upper bound of every element.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifMatchesAnyValues(final String fieldLabel, final Collection<T> actual,
-        final Predicate<T> matcher, final S... values) {
-      if (Collections.matchesAnyValues(actual, matcher)) {
-        messages.add(MessageFormat
-            .format(Collections.formatMatchesAnyValues, className, fieldLabel, actual));
+    public Checker<S> ifAnyOutsideRange(final String fieldLabel, final double[] actual,
+        final double lowerBound, final double upperBound, final S... values) {
+      final int count = actual != null
+          ? PrimitiveArrays.countOutsideRange(actual, lowerBound, upperBound) : 0;
+      if (count > 0) {
+        final int[] indices = PrimitiveArrays.indices(budget.getMaxElements(), actual.length,
+            i -> !(actual[i] >= lowerBound && actual[i] <= upperBound));
+        addMessage(PrimitiveArrays.formatAnyOutsideRange, fieldLabel, actual, count, indices,
+            lowerBound, upperBound);
         addValues(values);
       }
 
@@ -442,24 +594,24 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Collections#matchesNoValues(Collection,
-     * Predicate) matches no values} of the
-     * <var>expected</var> {@link Predicate lambda}.
-     * <blockquote>{@value Collections#formatMatchesNoValues}</blockquote>
+     * Asserts that <var>actual</var> input {@link Dates#isBefore(long, int, long) is before} the
+     * current time of the provided <var>clock</var>.
+     * <blockquote>{@value Dates#formatBefore}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param matcher The <var>expected</var> matcher to compare against.
+     * @param clock The {@link Clock} to read the current time from, e.g. a {@link CoarseClock}.
+     * (Cannot be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifMatchesNoValues(final String fieldLabel, final Collection<T> actual,
-        final Predicate<T> matcher, final S... values) {
-      if (Collections.matchesNoValues(actual, matcher)) {
-        messages.add(
-            MessageFormat.format(Collections.formatMatchesNoValues, className, fieldLabel, actual));
+    public Checker<S> ifBefore(final String fieldLabel, final Instant actual, final Clock clock,
+        final S... values) {
+      final long now = clock.millis();
+      if (actual != null && Dates.isBefore(actual.getEpochSecond(), actual.getNano(), now)) {
+        addMessage(Dates.formatBefore, fieldLabel, actual, Instant.ofEpochMilli(now));
         addValues(values);
       }
 
@@ -467,20 +619,26 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Strings#isBlank is not blank}, i.e. is neither
-     * null, empty, nor contains only whitespace.
-     * <blockquote>{@value Strings#formatNotBlank}</blockquote>
+     * Asserts that <var>actual</var> epoch milliseconds input is before the current time of the
+     * provided <var>clock</var>.
+     * <blockquote>{@value Dates#formatBefore}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param actual The <var>actual</var> input to assert against the expectations, in
+     * milliseconds since the epoch.
+     * @param clock The {@link Clock} to read the current time from, e.g. a {@link CoarseClock}.
+     * (Cannot be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifNotBlank(final String fieldLabel, final String actual, final S... values) {
-      if (!Strings.isBlank.test(actual)) {
-        messages.add(MessageFormat.format(Strings.formatNotBlank, className, fieldLabel));
+    public Checker<S> ifBefore(final String fieldLabel, final long actual, final Clock clock,
+        final S... values) {
+      final long now = clock.millis();
+      if (actual < now) {
+        addMessage(Dates.formatBefore, fieldLabel, Instant.ofEpochMilli(actual),
+            Instant.ofEpochMilli(now));
         addValues(values);
       }
 
@@ -488,9 +646,9 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Strings#isEmpty is not blank}, i.e. is neither
-     * null, nor empty.
-     * <blockquote>{@value Strings#formatNotEmpty}</blockquote>
+     * Asserts that <var>actual</var> input {@link Strings#isBlank is blank}, i.e. is either null,
+     * empty, or contains only whitespace.
+     * <blockquote>{@value Strings#formatBlank}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
@@ -499,9 +657,10 @@ public class Verifier {
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifNotEmpty(final String fieldLabel, final String actual, final S... values) {
-      if (!Strings.isEmpty.test(actual)) {
-        messages.add(MessageFormat.format(Strings.formatNotEmpty, className, fieldLabel));
+    public Checker<S> ifBlank(final String fieldLabel, final CharSequence actual,
+        final S... values) {
+      if (Verifier.Strings.isBlank.test(actual)) {
+        addMessage(Strings.formatBlank, fieldLabel, actual);
         addValues(values);
       }
 
@@ -509,22 +668,22 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Collections#isEmpty is not empty}.
-     * <blockquote>{@value Collections#formatNotEmptyCollection}</blockquote>
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#isBlankUtf8 is blank}, i.e. is
+     * either null, empty, or contains only whitespace.
+     * <blockquote>{@value Strings#formatBlank}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
-     * @param <T> The type of {@link Collection} to check.
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifNotEmpty(final String fieldLabel, final Collection<T> actual,
+    public Checker<S> ifBlankUtf8(final String fieldLabel, final ByteBuffer actual,
         final S... values) {
-      if (!Collections.isEmpty.test(actual)) {
-        messages
-            .add(MessageFormat.format(Collections.formatNotEmptyCollection, className, fieldLabel));
+      if (Strings.isBlankUtf8.test(actual)) {
+        addMessage(Strings.formatBlank, fieldLabel, Strings.render(actual));
         addValues(values);
       }
 
@@ -532,23 +691,23 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualString is not equal to} the
-     * <var>expected</var> input.
-     * <blockquote>{@value Equality#formatNotEqualString}</blockquote>
+     * Asserts that <var>actual</var> input {@link Collections#containsAllValues(Collection,
+     * Collection) contains all values} of the
+     * <var>expected</var> {@link Collection}.
+     * <blockquote>{@value Collections#formatContainsAllValues}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
+     * @param expected The <var>expected</var> values to compare against.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifNotEqual(final String fieldLabel, final String actual,
-        final String expected, final boolean caseSensitive, final S... values) {
-      if (!Equality.isEqualString(actual, expected, caseSensitive)) {
-        messages.add(MessageFormat
-            .format(Equality.formatNotEqualString, className, fieldLabel, actual, expected));
+    public <T> Checker<S> ifContainsAllValues(final String fieldLabel, final Collection<T> actual,
+        final Collection<T> expected, final S... values) {
+      if (Verifier.Collections.containsAllValues(actual, expected)) {
+        addMessage(Collections.formatContainsAllValues, fieldLabel, actual, expected);
         addValues(values);
       }
 
@@ -556,23 +715,24 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualCollection is not equal to} the
-     * <var>expected</var> input.
-     * <blockquote>{@value Equality#formatNotEqual}</blockquote>
+     * Asserts that <var>actual</var> input contains any character of the precompiled
+     * <var>charClass</var> input, scanned with the lookup table of the class without allocating.
+     * <blockquote>{@value Strings#formatContainsAny}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
+     * @param actual The <var>actual</var> input to assert against the expectations, where null is
+     * scanned as the empty string. (May be null)
+     * @param charClass The precompiled class of characters to scan for. (Cannot be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifNotEqual(final String fieldLabel, final Collection<T> actual,
-        final Collection<T> expected, final S... values) {
-      if (!Equality.isEqualCollection(actual, expected)) {
-        messages.add(
-            MessageFormat.format(Equality.formatNotEqual, className, fieldLabel, actual, expected));
+    public Checker<S> ifContainsAny(final String fieldLabel, final CharSequence actual,
+        final CharClass charClass, final S... values) {
+      final int index = actual != null ? charClass.indexInside(actual) : -1;
+      if (index >= 0) {
+        addMessage(Strings.formatContainsAny, fieldLabel, actual, charClass, index);
         addValues(values);
       }
 
@@ -580,23 +740,23 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualObject is not equal to} the
-     * <var>expected</var> input.
-     * <blockquote>{@value Equality#formatNotEqual}</blockquote>
+     * Asserts that <var>actual</var> input {@link Collections#containsAnyValues(Collection,
+     * Collection) contains any values} of the
+     * <var>expected</var> {@link Collection}.
+     * <blockquote>{@value Collections#formatContainsAnyValues}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
+     * @param expected The <var>expected</var> values to compare against.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifNotEqual(final String fieldLabel, final T actual, final T expected,
-        final S... values) {
-      if (!Equality.isEqualObject(actual, expected)) {
-        messages.add(
-            MessageFormat.format(Equality.formatNotEqual, className, fieldLabel, actual, expected));
+    public <T> Checker<S> ifContainsAnyValues(final String fieldLabel, final Collection<T> actual,
+        final Collection<T> expected, final S... values) {
+      if (Verifier.Collections.containsAnyValues(actual, expected)) {
+        addMessage(Collections.formatContainsAnyValues, fieldLabel, actual, expected);
         addValues(values);
       }
 
@@ -604,108 +764,3033 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(Instant,
-     * Instant, long) is not equal to} the
-     * <var>expected</var> within the provided <var>tolerance</var>.
-     * <blockquote>{@value Equality#formatNotEqualDateWithTolerance}</blockquote>
+     * Asserts that <var>actual</var> input {@link Collections#duplicates(Iterable, Function, int,
+     * List) contains duplicates}, in a single hashing pass. A failure reports the number of
+     * duplicates and the first {@link RenderingBudget#getMaxElements()} of them, each with the
+     * indices of its first and repeated occurrence.
+     * <blockquote>{@value Collections#formatContainsDuplicates}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual1</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
-     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var> in
-     * seconds. (Must be positive)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifNotEqualDate(final String fieldLabel, final Instant actual,
-        final Instant expected, final long tolerance, final S... values) {
-      if (!Equality.isEqualDateWithTolerance(actual, expected, tolerance)) {
-        messages.add(MessageFormat
-            .format(Equality.formatNotEqualDateWithTolerance, className, fieldLabel, actual,
-                expected, tolerance));
-        addValues(values);
-      }
-
-      return this;
+    public <T> Checker<S> ifContainsDuplicates(final String fieldLabel, final Collection<T> actual,
+        final S... values) {
+      final List<Collections.Duplicate> duplicates = new ArrayList<>();
+      final int count = actual == null ? 0 : Collections
+          .duplicates(actual, Function.identity(), budget.getMaxElements(), duplicates);
+      return ifDuplicates(Collections.formatContainsDuplicates, fieldLabel, actual, count,
+          duplicates, values);
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(LocalDateTime,
-     * LocalDateTime, long) is not equal to} the
-     * <var>expected</var> within the provided <var>tolerance</var>.
+     * Asserts that <var>actual</var> input {@link Collections#duplicates(int, IntToLongFunction,
+     * int, List) contains duplicates}, in a single pass that does not box. A failure reports the
+     * number of duplicates and the first {@link RenderingBudget#getMaxElements()} of them, each
+     * with the indices of its first and repeated occurrence.
+     * <blockquote>{@value Collections#formatContainsDuplicatesArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifContainsDuplicates(final String fieldLabel, final int[] actual,
+        final S... values) {
+      final List<Collections.Duplicate> duplicates = new ArrayList<>();
+      final int count = actual == null ? 0 : Collections
+          .duplicates(actual.length, i -> actual[i], budget.getMaxElements(), duplicates);
+      return ifDuplicates(Collections.formatContainsDuplicatesArray, fieldLabel, actual, count,
+          duplicates, values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Collections#duplicates(int, IntToLongFunction,
+     * int, List) contains duplicates}, in a single pass that does not box. A failure reports the
+     * number of duplicates and the first {@link RenderingBudget#getMaxElements()} of them, each
+     * with the indices of its first and repeated occurrence.
+     * <blockquote>{@value Collections#formatContainsDuplicatesArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifContainsDuplicates(final String fieldLabel, final long[] actual,
+        final S... values) {
+      final List<Collections.Duplicate> duplicates = new ArrayList<>();
+      final int count = actual == null ? 0 : Collections
+          .duplicates(actual.length, i -> actual[i], budget.getMaxElements(), duplicates);
+      return ifDuplicates(Collections.formatContainsDuplicatesArray, fieldLabel, actual, count,
+          duplicates, values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Collections#containsNoValues(Collection,
+     * Collection) contains no values} of the
+     * <var>expected</var> {@link Collection}.
+     * <blockquote>{@value Collections#formatContainsNoValues}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> values to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifContainsNoValues(final String fieldLabel, final Collection<T> actual,
+        final Collection<T> expected, final S... values) {
+      if (Verifier.Collections.containsNoValues(actual, expected)) {
+        addMessage(Collections.formatContainsNoValues, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input contains no character of the precompiled
+     * <var>charClass</var> input, scanned with the lookup table of the class without allocating.
+     * <blockquote>{@value Strings#formatContainsNone}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations, where null is
+     * scanned as the empty string. (May be null)
+     * @param charClass The precompiled class of characters to scan for. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifContainsNone(final String fieldLabel, final CharSequence actual,
+        final CharClass charClass, final S... values) {
+      final int index = actual != null ? charClass.indexInside(actual) : -1;
+      if (index < 0) {
+        addMessage(Strings.formatContainsNone, fieldLabel, actual, charClass, index);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input contains only characters of the precompiled
+     * <var>charClass</var> input, scanned with the lookup table of the class without allocating.
+     * <blockquote>{@value Strings#formatContainsOnly}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations, where null is
+     * scanned as the empty string. (May be null)
+     * @param charClass The precompiled class of characters to scan for. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifContainsOnly(final String fieldLabel, final CharSequence actual,
+        final CharClass charClass, final S... values) {
+      final int index = actual != null ? charClass.indexOutside(actual) : -1;
+      if (index < 0) {
+        addMessage(Strings.formatContainsOnly, fieldLabel, actual, charClass, index);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that the directed graph of <var>actual</var> input, mapping each node to its
+     * successors, {@link Collections#cycle contains a cycle}, found by an iterative depth-first
+     * traversal in time and memory linear in the size of the graph, however deep it is. A failure
+     * reports the path of one cycle, from and back to the same node.
+     * <blockquote>{@value Collections#formatCyclic}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations, whose nodes
+     * missing as keys, or mapped to null, have no successors. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <K> Checker<S> ifCyclic(final String fieldLabel,
+        final Map<K, ? extends Collection<? extends K>> actual, final S... values) {
+      final List<K> cycle = actual == null ? null
+          : Collections.cycle(actual.keySet(), actual::get);
+      if (cycle != null) {
+        addMessage(Collections.formatCyclic, fieldLabel, actual, cycle.size() - 1, cycle);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that the directed graph reachable from the <var>actual</var> input nodes through
+     * <var>successors</var> {@link Collections#cycle contains a cycle}, found by an iterative
+     * depth-first traversal in time and memory linear in the size of that graph, however deep it
+     * is. A failure reports the path of one cycle, from and back to the same node.
+     * <blockquote>{@value Collections#formatCyclicFromNodes}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input nodes to traverse the graph from. (May be null)
+     * @param successors The function returning the successors of a node, or null if it has none.
+     * (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <K> Checker<S> ifCyclic(final String fieldLabel, final Collection<? extends K> actual,
+        final Function<? super K, ? extends Collection<? extends K>> successors,
+        final S... values) {
+      final List<K> cycle = actual == null ? null : Collections.cycle(actual, successors);
+      if (cycle != null) {
+        addMessage(Collections.formatCyclicFromNodes, fieldLabel, actual, cycle.size() - 1,
+            cycle);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#isEmpty is empty}, i.e. is either null,
+     * or empty.
+     * <blockquote>{@value Strings#formatEmpty}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEmpty(final String fieldLabel, final CharSequence actual,
+        final S... values) {
+      if (Verifier.Strings.isEmpty.test(actual)) {
+        addMessage(Strings.formatEmpty, fieldLabel, actual);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#isEmptyUtf8 is empty}, i.e. is
+     * either null, or empty.
+     * <blockquote>{@value Strings#formatEmpty}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEmptyUtf8(final String fieldLabel, final ByteBuffer actual,
+        final S... values) {
+      if (Strings.isEmptyUtf8.test(actual)) {
+        addMessage(Strings.formatEmpty, fieldLabel, Strings.render(actual));
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Collections#isEmpty is empty}.
+     * <blockquote>{@value Collections#formatEmptyCollection}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @param <T> The type of {@link Collection} to check.
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifEmpty(final String fieldLabel, final Collection<T> actual,
+        final S... values) {
+      if (Verifier.Collections.isEmpty.test(actual)) {
+        addMessage(Collections.formatEmptyCollection, fieldLabel, actual);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualString is equal to} the
+     * <var>expected</var> input.
+     * <blockquote>{@value Equality#formatEqualString}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqual(final String fieldLabel, final CharSequence actual,
+        final CharSequence expected, final boolean caseSensitive, final S... values) {
+      if (Equality.isEqualString(actual, expected, caseSensitive)) {
+        addMessage(Equality.formatEqualString, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Equality#isEqualString(ByteBuffer,
+     * CharSequence, boolean) is equal to} the <var>expected</var> input.
+     * <blockquote>{@value Strings#formatEqualString}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param caseSensitive False to compare characters ignoring case.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualUtf8(final String fieldLabel, final ByteBuffer actual,
+        final CharSequence expected, final boolean caseSensitive,
+        final S... values) {
+      if (Equality.isEqualString(actual, expected, caseSensitive)) {
+        addMessage(Equality.formatEqualString, fieldLabel, Strings.render(actual), expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualCollection is equal to} the
+     * <var>expected</var> input.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifEqual(final String fieldLabel, final Collection<T> actual,
+        final Collection<T> expected, final S... values) {
+      if (Equality.isEqualCollection(actual, expected)) {
+        addMessage(Equality.formatEqual, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualCollection is equal to} the
+     * <var>expected</var> input.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifEqual(final String fieldLabel, final T actual, final T expected,
+        final S... values) {
+      if (Equality.isEqualObject(actual, expected)) {
+        addMessage(Equality.formatEqual, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(boolean[], boolean[]) is equal
+     * to} the <var>expected</var> input element by element.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualArray(final String fieldLabel, final boolean[] actual,
+        final boolean[] expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(byte[], byte[]) is equal to}
+     * the <var>expected</var> input element by element.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualArray(final String fieldLabel, final byte[] actual,
+        final byte[] expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(char[], char[]) is equal to}
+     * the <var>expected</var> input element by element.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualArray(final String fieldLabel, final char[] actual,
+        final char[] expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(short[], short[]) is equal to}
+     * the <var>expected</var> input element by element.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualArray(final String fieldLabel, final short[] actual,
+        final short[] expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(int[], int[]) is equal to} the
+     * <var>expected</var> input element by element.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualArray(final String fieldLabel, final int[] actual,
+        final int[] expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(long[], long[]) is equal to}
+     * the <var>expected</var> input element by element.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualArray(final String fieldLabel, final long[] actual,
+        final long[] expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(float[], float[]) is equal to}
+     * the <var>expected</var> input element by element.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualArray(final String fieldLabel, final float[] actual,
+        final float[] expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(double[], double[]) is equal
+     * to} the <var>expected</var> input element by element.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualArray(final String fieldLabel, final double[] actual,
+        final double[] expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(Object[], Object[]) is equal
+     * to} the <var>expected</var> input element by element.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualArray(final String fieldLabel, final Object[] actual,
+        final Object[] expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(ByteBuffer, ByteBuffer) is
+     * equal to} the <var>expected</var> input element by element.
+     * Only the bytes between each buffer's position and limit are compared.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations, compared from
+     * its position to its limit without changing either.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualContent(final String fieldLabel, final ByteBuffer actual,
+        final ByteBuffer expected, final S... values) {
+      return ifEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link ReferenceCollection#matches is equal to} the
+     * registered <var>expected</var> {@link ReferenceCollection}, comparing elements only when the
+     * sizes and content fingerprints agree.
+     * <blockquote>{@value Equality#formatEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The registered <var>expected</var> values to compare against. (Cannot be
+     * null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifEqualReference(final String fieldLabel,
+        final Collection<? extends T> actual, final ReferenceCollection<T> expected,
+        final S... values) {
+      if (expected.matches(actual)) {
+        addMessage(Equality.formatEqual, fieldLabel, actual, expected.values());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(Instant,
+     * Instant, long) is equal to} the <var>expected</var> within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatEqualWithError}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual1</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var> in
+     * seconds. (Must be positive)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualDate(final String fieldLabel, final Instant actual,
+        final Instant expected, final long tolerance, final S... values) {
+      if (Equality.isEqualDateWithTolerance(actual, expected, tolerance)) {
+        addMessage(Equality.formatEqualDateWithTolerance, fieldLabel, actual, expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(LocalDateTime,
+     * LocalDateTime, long) is equal to} the
+     * <var>expected</var> within the provided <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatEqualDateWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual1</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var> in
+     * seconds. (Must be positive)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualDate(final String fieldLabel, final LocalDateTime actual,
+        final LocalDateTime expected, final long tolerance, final S... values) {
+      if (Equality.isEqualDateWithTolerance(actual, expected, tolerance)) {
+        addMessage(Equality.formatEqualDateWithTolerance, fieldLabel, actual, expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(Instant,
+     * Instant, Duration) is equal to} the <var>expected</var> within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatEqualDateWithDuration}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifEqualDate(final String fieldLabel, final Instant actual,
+        final Instant expected, final Duration tolerance, final S... values) {
+      if (Equality.isEqualDateWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatEqualDateWithDuration, fieldLabel, actual, expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(LocalDateTime,
+     * LocalDateTime, Duration) is equal to} the <var>expected</var> within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatEqualDateWithDuration}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifEqualDate(final String fieldLabel, final LocalDateTime actual,
+        final LocalDateTime expected, final Duration tolerance, final S... values) {
+      if (Equality.isEqualDateWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatEqualDateWithDuration, fieldLabel, actual, expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(OffsetDateTime,
+     * OffsetDateTime, Duration) is equal to} the <var>expected</var> within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatEqualDateWithDuration}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifEqualDate(final String fieldLabel, final OffsetDateTime actual,
+        final OffsetDateTime expected, final Duration tolerance, final S... values) {
+      if (Equality.isEqualDateWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatEqualDateWithDuration, fieldLabel, actual, expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(ZonedDateTime,
+     * ZonedDateTime, Duration) is equal to} the <var>expected</var> within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatEqualDateWithDuration}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifEqualDate(final String fieldLabel, final ZonedDateTime actual,
+        final ZonedDateTime expected, final Duration tolerance, final S... values) {
+      if (Equality.isEqualDateWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatEqualDateWithDuration, fieldLabel, actual, expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> epoch timestamp {@link Equality#isEqualEpochWithTolerance is
+     * equal to} the <var>expected</var> epoch timestamp within the provided <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatEqualEpochWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations, since the
+     * epoch.
+     * @param expected The <var>expected</var> value to compare against, since the epoch.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be negative)
+     * @param unit The {@link TimeUnit} of <var>actual</var>, <var>expected</var>, and
+     * <var>tolerance</var>, e.g. {@link TimeUnit#MILLISECONDS} or {@link TimeUnit#NANOSECONDS}.
+     * (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifEqualDate(final String fieldLabel, final long actual, final long expected,
+        final long tolerance, final TimeUnit unit, final S... values) {
+      if (Equality.isEqualEpochWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatEqualEpochWithTolerance, fieldLabel, actual, expected, tolerance,
+            Equality.abbreviate(unit));
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualIgnoringOrder(Collection,
+     * Collection) is equal to} the <var>expected</var> input as a multiset, i.e. that both hold the
+     * same elements the same number of times, in any order and whatever their collection types.
+     * <blockquote>{@value Equality#formatEqualIgnoringOrder}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifEqualIgnoringOrder(final String fieldLabel,
+        final Collection<? extends T> actual, final Collection<? extends T> expected,
+        final S... values) {
+      if (Equality.isEqualIgnoringOrder(actual, expected)) {
+        addMessage(Equality.formatEqualIgnoringOrder, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualIgnoringOrder(int[], int[]) is
+     * equal to} the <var>expected</var> input as a multiset, i.e. that both hold the same elements
+     * the same number of times, in any order, without boxing the elements.
+     * <blockquote>{@value Equality#formatEqualIgnoringOrder}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualIgnoringOrder(final String fieldLabel, final int[] actual,
+        final int[] expected, final S... values) {
+      if (Equality.isEqualIgnoringOrder(actual, expected)) {
+        addMessage(Equality.formatEqualIgnoringOrder, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualIgnoringOrder(long[], long[]) is
+     * equal to} the <var>expected</var> input as a multiset, i.e. that both hold the same elements
+     * the same number of times, in any order, without boxing the elements.
+     * <blockquote>{@value Equality#formatEqualIgnoringOrder}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualIgnoringOrder(final String fieldLabel, final long[] actual,
+        final long[] expected, final S... values) {
+      if (Equality.isEqualIgnoringOrder(actual, expected)) {
+        addMessage(Equality.formatEqualIgnoringOrder, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualWithError is equal to} the
+     * <var>expected</var> input.
+     * <blockquote>{@value Equality#formatEqualWithError}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualWithError(final String fieldLabel, final double actual,
+        final double expected, final double epsilon, final S... values) {
+      if (Equality.isEqualWithError(actual, expected, epsilon)) {
+        addMessage(Equality.formatEqualWithError, fieldLabel, actual, expected, epsilon);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Tolerance#isWithin is within} the
+     * <var>tolerance</var> of the <var>expected</var> input.
+     * <blockquote>{@value Equality#formatEqualWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The absolute, relative or ULP tolerance of the comparison. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualWithError(final String fieldLabel, final double actual,
+        final double expected, final Tolerance tolerance, final S... values) {
+      if (tolerance.isWithin(actual, expected)) {
+        addMessage(Equality.formatEqualWithTolerance, fieldLabel, String.valueOf(actual),
+            String.valueOf(expected), tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that every element of the <var>actual</var> input {@link Tolerance#isWithin is
+     * within} the <var>tolerance</var> of the element at the same index of the <var>expected</var>
+     * input, in a single pass that does not allocate.
+     * <blockquote>{@value Equality#formatEqualWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param tolerance The absolute, relative or ULP tolerance of each comparison. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualWithError(final String fieldLabel, final double[] actual,
+        final double[] expected, final Tolerance tolerance, final S... values) {
+      if (Equality.worstIndex(actual, expected, tolerance) == Equality.withinTolerance) {
+        addMessage(Equality.formatEqualWithTolerance, fieldLabel, actual, expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that every element of the <var>actual</var> input {@link Tolerance#isWithin is
+     * within} the <var>tolerance</var> of the element at the same index of the <var>expected</var>
+     * input, in a single pass that does not allocate.
+     * <blockquote>{@value Equality#formatEqualWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param tolerance The absolute, relative or ULP tolerance of each comparison. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifEqualWithError(final String fieldLabel, final float[] actual,
+        final float[] expected, final Tolerance tolerance, final S... values) {
+      if (Equality.worstIndex(actual, expected, tolerance) == Equality.withinTolerance) {
+        addMessage(Equality.formatEqualWithTolerance, fieldLabel, actual, expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link ValueSet#contains is in} the prebuilt
+     * <var>expected</var> {@link ValueSet}.
+     * <blockquote>{@value Collections#formatIn}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The prebuilt <var>expected</var> values to compare against. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifIn(final String fieldLabel, final T actual,
+        final ValueSet<? super T> expected, final S... values) {
+      if (expected.contains(actual)) {
+        addMessage(Collections.formatIn, fieldLabel, actual, expected.size());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link MappedValueSet#contains is in} the memory-mapped
+     * <var>expected</var> {@link MappedValueSet}.
+     * <blockquote>{@value Collections#formatIn}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The memory-mapped <var>expected</var> values to compare against. (Cannot be
+     * null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifIn(final String fieldLabel, final CharSequence actual,
+        final MappedValueSet expected, final S... values) {
+      if (expected.contains(actual)) {
+        addMessage(Collections.formatIn, fieldLabel, actual, expected.size());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link IntegerSet#contains(int) is in} the compressed
+     * <var>expected</var> {@link IntegerSet}, without boxing.
+     * <blockquote>{@value Collections#formatInInteger}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The compressed <var>expected</var> values to compare against. (Cannot be
+     * null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifIn(final String fieldLabel, final int actual,
+        final IntegerSet expected, final S... values) {
+      if (expected.contains(actual)) {
+        addMessage(Collections.formatInInteger, fieldLabel, actual, expected.size());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link IntegerSet#contains(long) is in} the compressed
+     * <var>expected</var> {@link IntegerSet}, without boxing.
+     * <blockquote>{@value Collections#formatInInteger}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The compressed <var>expected</var> values to compare against. (Cannot be
+     * null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifIn(final String fieldLabel, final long actual,
+        final IntegerSet expected, final S... values) {
+      if (expected.contains(actual)) {
+        addMessage(Collections.formatInInteger, fieldLabel, actual, expected.size());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#matches matches} the regular expression
+     * <var>pattern</var> input.
+     * <blockquote>{@value Strings#formatMatches}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param pattern The regular expression <var>pattern</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifMatches(final String fieldLabel, final CharSequence actual,
+        final String pattern, final S... values) {
+      if (Strings.matches.test(actual, pattern)) {
+        addMessage(Strings.formatMatches, fieldLabel, actual, pattern);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#matchesLinear matches} the precompiled
+     * <var>pattern</var> input, in time linear in the input length if the pattern {@link
+     * LinearPattern#isLinear() is linear}.
+     * <blockquote>{@value Strings#formatMatches}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param pattern The precompiled <var>pattern</var> value to compare against. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifMatches(final String fieldLabel, final CharSequence actual,
+        final LinearPattern pattern, final S... values) {
+      if (Strings.matchesLinear.test(actual, pattern)) {
+        addMessage(Strings.formatMatches, fieldLabel, actual, pattern.pattern());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#matchesUtf8 matches} the regular
+     * expression <var>pattern</var> input.
+     * <blockquote>{@value Strings#formatMatches}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param pattern The regular expression <var>pattern</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifMatchesUtf8(final String fieldLabel, final ByteBuffer actual,
+        final String pattern, final S... values) {
+      if (Strings.matchesUtf8.test(actual, pattern)) {
+        addMessage(Strings.formatMatches, fieldLabel, Strings.render(actual), pattern);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#matchesLinearUtf8 matches} the
+     * precompiled <var>pattern</var> input, in time linear in the input length if the pattern
+     * {@link LinearPattern#isLinear() is linear}.
+     * <blockquote>{@value Strings#formatMatches}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param pattern The precompiled <var>pattern</var> value to compare against. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifMatchesUtf8(final String fieldLabel, final ByteBuffer actual,
+        final LinearPattern pattern, final S... values) {
+      if (Strings.matchesLinearUtf8.test(actual, pattern)) {
+        addMessage(Strings.formatMatches, fieldLabel, Strings.render(actual), pattern.pattern());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Collections#matchesAllValues(Collection,
+     * Predicate) matches all values} of the
+     * <var>expected</var> {@link Predicate lambda}.
+     * <blockquote>{@value Collections#formatMatchesAllValues}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param matcher The <var>expected</var> matcher to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifMatchesAllValues(final String fieldLabel, final Collection<T> actual,
+        final Predicate<T> matcher, final S... values) {
+      if (Collections.matchesAllValues(actual, matcher)) {
+        addMessage(Collections.formatMatchesAllValues, fieldLabel, actual);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link PatternSet#firstMatch matches any} of the
+     * <var>patterns</var> input, reporting the lowest index among the patterns matched.
+     * <blockquote>{@value Strings#formatMatchesAnyPattern}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param patterns The precompiled <var>patterns</var> to compare against. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifMatchesAnyPattern(final String fieldLabel, final CharSequence actual,
+        final PatternSet patterns, final S... values) {
+      final int match = actual != null ? patterns.firstMatch(actual) : -1;
+      if (match >= 0) {
+        addMessage(Strings.formatMatchesAnyPattern, fieldLabel, actual, patterns.pattern(match),
+            match);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Collections#matchesAnyValues(Collection,
+     * Predicate) matches any values} of the
+     * <var>expected</var> {@link Predicate lambda}.
+     * <blockquote>{@value Collections#formatMatchesAnyValues}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param matcher The <var>expected</var> matcher to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifMatchesAnyValues(final String fieldLabel, final Collection<T> actual,
+        final Predicate<T> matcher, final S... values) {
+      if (Collections.matchesAnyValues(actual, matcher)) {
+        addMessage(Collections.formatMatchesAnyValues, fieldLabel, actual);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link PatternSet#firstMatch matches none} of the
+     * <var>patterns</var> input.
+     * <blockquote>{@value Strings#formatMatchesNoPattern}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param patterns The precompiled <var>patterns</var> to compare against. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifMatchesNoPattern(final String fieldLabel, final CharSequence actual,
+        final PatternSet patterns, final S... values) {
+      if (actual == null || !patterns.matches(actual)) {
+        addMessage(Strings.formatMatchesNoPattern, fieldLabel, actual, patterns.size());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Collections#matchesNoValues(Collection,
+     * Predicate) matches no values} of the
+     * <var>expected</var> {@link Predicate lambda}.
+     * <blockquote>{@value Collections#formatMatchesNoValues}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param matcher The <var>expected</var> matcher to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifMatchesNoValues(final String fieldLabel, final Collection<T> actual,
+        final Predicate<T> matcher, final S... values) {
+      if (Collections.matchesNoValues(actual, matcher)) {
+        addMessage(Collections.formatMatchesNoValues, fieldLabel, actual);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#isBlank is not blank}, i.e. is neither
+     * null, empty, nor contains only whitespace.
+     * <blockquote>{@value Strings#formatNotBlank}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotBlank(final String fieldLabel, final CharSequence actual,
+        final S... values) {
+      if (!Strings.isBlank.test(actual)) {
+        addMessage(Strings.formatNotBlank, fieldLabel);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#isBlankUtf8 is not blank}, i.e. is
+     * neither null, empty, nor contains only whitespace.
+     * <blockquote>{@value Strings#formatNotBlank}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotBlankUtf8(final String fieldLabel, final ByteBuffer actual,
+        final S... values) {
+      if (!Strings.isBlankUtf8.test(actual)) {
+        addMessage(Strings.formatNotBlank, fieldLabel);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input contains a character outside the precompiled
+     * <var>charClass</var> input, scanned with the lookup table of the class without allocating.
+     * <blockquote>{@value Strings#formatNotContainsOnly}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations, where null is
+     * scanned as the empty string. (May be null)
+     * @param charClass The precompiled class of characters to scan for. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotContainsOnly(final String fieldLabel, final CharSequence actual,
+        final CharClass charClass, final S... values) {
+      final int index = actual != null ? charClass.indexOutside(actual) : -1;
+      if (index >= 0) {
+        addMessage(Strings.formatNotContainsOnly, fieldLabel, actual, charClass, index);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#isEmpty is not blank}, i.e. is neither
+     * null, nor empty.
+     * <blockquote>{@value Strings#formatNotEmpty}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEmpty(final String fieldLabel, final CharSequence actual,
+        final S... values) {
+      if (!Strings.isEmpty.test(actual)) {
+        addMessage(Strings.formatNotEmpty, fieldLabel);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#isEmptyUtf8 is not empty}, i.e. is
+     * neither null, nor empty.
+     * <blockquote>{@value Strings#formatNotEmpty}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEmptyUtf8(final String fieldLabel, final ByteBuffer actual,
+        final S... values) {
+      if (!Strings.isEmptyUtf8.test(actual)) {
+        addMessage(Strings.formatNotEmpty, fieldLabel);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Collections#isEmpty is not empty}.
+     * <blockquote>{@value Collections#formatNotEmptyCollection}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @param <T> The type of {@link Collection} to check.
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotEmpty(final String fieldLabel, final Collection<T> actual,
+        final S... values) {
+      if (!Collections.isEmpty.test(actual)) {
+        addMessage(Collections.formatNotEmptyCollection, fieldLabel);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualString is not equal to} the
+     * <var>expected</var> input.
+     * <blockquote>{@value Equality#formatNotEqualString}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqual(final String fieldLabel, final CharSequence actual,
+        final CharSequence expected, final boolean caseSensitive, final S... values) {
+      if (!Equality.isEqualString(actual, expected, caseSensitive)) {
+        addMessage(Equality.formatNotEqualString, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Equality#isEqualString(ByteBuffer,
+     * CharSequence, boolean) is not equal to} the <var>expected</var> input.
+     * <blockquote>{@value Strings#formatNotEqualString}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param caseSensitive False to compare characters ignoring case.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualUtf8(final String fieldLabel, final ByteBuffer actual,
+        final CharSequence expected, final boolean caseSensitive,
+        final S... values) {
+      if (!Equality.isEqualString(actual, expected, caseSensitive)) {
+        addMessage(Equality.formatNotEqualString, fieldLabel, Strings.render(actual), expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualCollection is not equal to} the
+     * <var>expected</var> input. A failure reports the elements missing from <var>actual</var>,
+     * those unexpected in it, and those in both a different number of times, at most {@link
+     * RenderingBudget#getMaxElements()} of each.
+     * <blockquote>{@value Equality#formatNotEqualCollection}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotEqual(final String fieldLabel, final Collection<T> actual,
+        final Collection<T> expected, final S... values) {
+      if (!Equality.isEqualCollection(actual, expected)) {
+        addDiffMessage(Equality.formatNotEqualCollection, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualObject is not equal to} the
+     * <var>expected</var> input.
+     * <blockquote>{@value Equality#formatNotEqual}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotEqual(final String fieldLabel, final T actual, final T expected,
+        final S... values) {
+      if (!Equality.isEqualObject(actual, expected)) {
+        addMessage(Equality.formatNotEqual, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(boolean[], boolean[]) is not
+     * equal to} the <var>expected</var> input element by element, reporting the first mismatch
+     * index and a bounded window of the elements from there.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualArray(final String fieldLabel, final boolean[] actual,
+        final boolean[] expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(byte[], byte[]) is not equal
+     * to} the <var>expected</var> input element by element, reporting the first mismatch index and
+     * a bounded window of the elements from there.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualArray(final String fieldLabel, final byte[] actual,
+        final byte[] expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(char[], char[]) is not equal
+     * to} the <var>expected</var> input element by element, reporting the first mismatch index and
+     * a bounded window of the elements from there.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualArray(final String fieldLabel, final char[] actual,
+        final char[] expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(short[], short[]) is not equal
+     * to} the <var>expected</var> input element by element, reporting the first mismatch index and
+     * a bounded window of the elements from there.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualArray(final String fieldLabel, final short[] actual,
+        final short[] expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(int[], int[]) is not equal to}
+     * the <var>expected</var> input element by element, reporting the first mismatch index and a
+     * bounded window of the elements from there.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualArray(final String fieldLabel, final int[] actual,
+        final int[] expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(long[], long[]) is not equal
+     * to} the <var>expected</var> input element by element, reporting the first mismatch index and
+     * a bounded window of the elements from there.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualArray(final String fieldLabel, final long[] actual,
+        final long[] expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(float[], float[]) is not equal
+     * to} the <var>expected</var> input element by element, reporting the first mismatch index and
+     * a bounded window of the elements from there.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualArray(final String fieldLabel, final float[] actual,
+        final float[] expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(double[], double[]) is not
+     * equal to} the <var>expected</var> input element by element, reporting the first mismatch
+     * index and a bounded window of the elements from there.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualArray(final String fieldLabel, final double[] actual,
+        final double[] expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(Object[], Object[]) is not
+     * equal to} the <var>expected</var> input element by element, reporting the first mismatch
+     * index and a bounded window of the elements from there.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualArray(final String fieldLabel, final Object[] actual,
+        final Object[] expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#mismatch(ByteBuffer, ByteBuffer) is not
+     * equal to} the <var>expected</var> input element by element, reporting the first mismatch
+     * index and a bounded window of the elements from there. Only the bytes between each buffer's
+     * position and limit are compared.
+     * <blockquote>{@value Equality#formatNotEqualArray}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations, compared from
+     * its position to its limit without changing either.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualContent(final String fieldLabel, final ByteBuffer actual,
+        final ByteBuffer expected, final S... values) {
+      return ifNotEqualArrays(fieldLabel, actual, expected, Equality.mismatch(actual, expected),
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link ReferenceCollection#matches is not equal to} the
+     * registered <var>expected</var> {@link ReferenceCollection}, comparing elements only when the
+     * sizes and content fingerprints agree. A failure reports the elements missing from
+     * <var>actual</var>, those unexpected in it, and those in both a different number of times, at
+     * most {@link RenderingBudget#getMaxElements()} of each.
+     * <blockquote>{@value Equality#formatNotEqualCollection}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The registered <var>expected</var> values to compare against. (Cannot be
+     * null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotEqualReference(final String fieldLabel,
+        final Collection<? extends T> actual, final ReferenceCollection<T> expected,
+        final S... values) {
+      if (!expected.matches(actual)) {
+        final String format = expected.isOrdered() ? Equality.formatNotEqualCollection
+            : Equality.formatNotEqualIgnoringOrderCollection;
+        addDiffMessage(format, fieldLabel, actual, expected.values());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(Instant,
+     * Instant, long) is not equal to} the
+     * <var>expected</var> within the provided <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatNotEqualDateWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual1</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var> in
+     * seconds. (Must be positive)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualDate(final String fieldLabel, final Instant actual,
+        final Instant expected, final long tolerance, final S... values) {
+      if (!Equality.isEqualDateWithTolerance(actual, expected, tolerance)) {
+        addMessage(Equality.formatNotEqualDateWithTolerance, fieldLabel, actual,
+            expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(LocalDateTime,
+     * LocalDateTime, long) is not equal to} the
+     * <var>expected</var> within the provided <var>tolerance</var>.
      * <blockquote>{@value Equality#formatNotEqualDateWithTolerance}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual1</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
-     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var> in
-     * seconds. (Must be positive)
+     * @param actual The <var>actual1</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var> in
+     * seconds. (Must be positive)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualDate(final String fieldLabel,
+        final LocalDateTime actual,
+        final LocalDateTime expected,
+        final long tolerance,
+        final S... values) {
+      if (!Equality.isEqualDateWithTolerance(actual, expected, tolerance)) {
+        addMessage(Equality.formatNotEqualDateWithTolerance, fieldLabel, actual,
+            expected, tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(Instant,
+     * Instant, Duration) is not equal to} the <var>expected</var> within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatNotEqualDateWithDuration}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifNotEqualDate(final String fieldLabel, final Instant actual,
+        final Instant expected, final Duration tolerance, final S... values) {
+      if (!Equality.isEqualDateWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatNotEqualDateWithDuration, fieldLabel, actual, expected,
+            tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(LocalDateTime,
+     * LocalDateTime, Duration) is not equal to} the <var>expected</var> within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatNotEqualDateWithDuration}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifNotEqualDate(final String fieldLabel, final LocalDateTime actual,
+        final LocalDateTime expected, final Duration tolerance, final S... values) {
+      if (!Equality.isEqualDateWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatNotEqualDateWithDuration, fieldLabel, actual, expected,
+            tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(OffsetDateTime,
+     * OffsetDateTime, Duration) is not equal to} the <var>expected</var> within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatNotEqualDateWithDuration}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifNotEqualDate(final String fieldLabel, final OffsetDateTime actual,
+        final OffsetDateTime expected, final Duration tolerance, final S... values) {
+      if (!Equality.isEqualDateWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatNotEqualDateWithDuration, fieldLabel, actual, expected,
+            tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualDateWithTolerance(ZonedDateTime,
+     * ZonedDateTime, Duration) is not equal to} the <var>expected</var> within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatNotEqualDateWithDuration}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifNotEqualDate(final String fieldLabel, final ZonedDateTime actual,
+        final ZonedDateTime expected, final Duration tolerance, final S... values) {
+      if (!Equality.isEqualDateWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatNotEqualDateWithDuration, fieldLabel, actual, expected,
+            tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> epoch timestamp {@link Equality#isEqualEpochWithTolerance is
+     * not equal to} the <var>expected</var> epoch timestamp within the provided
+     * <var>tolerance</var>.
+     * <blockquote>{@value Equality#formatNotEqualEpochWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations, since the
+     * epoch.
+     * @param expected The <var>expected</var> value to compare against, since the epoch.
+     * @param tolerance The allowed tolerance between <var>actual</var> and <var>expected</var>.
+     * (Cannot be negative)
+     * @param unit The {@link TimeUnit} of <var>actual</var>, <var>expected</var>, and
+     * <var>tolerance</var>, e.g. {@link TimeUnit#MILLISECONDS} or {@link TimeUnit#NANOSECONDS}.
+     * (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>tolerance</var> is negative.
+     */
+    public Checker<S> ifNotEqualDate(final String fieldLabel, final long actual,
+        final long expected, final long tolerance, final TimeUnit unit, final S... values) {
+      if (!Equality.isEqualEpochWithTolerance(actual, expected,
+          Equality.requireNonNegative(tolerance))) {
+        addMessage(Equality.formatNotEqualEpochWithTolerance, fieldLabel, actual, expected,
+            tolerance, Equality.abbreviate(unit));
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link
+     * Equality#isEqualIgnoringOrder(Collection, Collection) is not equal to} the
+     * <var>expected</var> input as a multiset, i.e. that both hold the same elements the same
+     * number of times, in any order and whatever their collection types. A failure reports the
+     * elements missing from <var>actual</var>, those unexpected in it, and those in both a
+     * different number of times, at most {@link RenderingBudget#getMaxElements()} of each.
+     * <blockquote>{@value Equality#formatNotEqualIgnoringOrderCollection}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotEqualIgnoringOrder(final String fieldLabel,
+        final Collection<? extends T> actual, final Collection<? extends T> expected,
+        final S... values) {
+      if (!Equality.isEqualIgnoringOrder(actual, expected)) {
+        addDiffMessage(Equality.formatNotEqualIgnoringOrderCollection, fieldLabel, actual,
+            expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualIgnoringOrder(int[], int[]) is
+     * not equal to} the <var>expected</var> input as a multiset, i.e. that both hold the same
+     * elements the same number of times, in any order, without boxing the elements.
+     * <blockquote>{@value Equality#formatNotEqualIgnoringOrder}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualIgnoringOrder(final String fieldLabel, final int[] actual,
+        final int[] expected, final S... values) {
+      if (!Equality.isEqualIgnoringOrder(actual, expected)) {
+        addMessage(Equality.formatNotEqualIgnoringOrder, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualIgnoringOrder(long[], long[]) is
+     * not equal to} the <var>expected</var> input as a multiset, i.e. that both hold the same
+     * elements the same number of times, in any order, without boxing the elements.
+     * <blockquote>{@value Equality#formatNotEqualIgnoringOrder}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualIgnoringOrder(final String fieldLabel, final long[] actual,
+        final long[] expected, final S... values) {
+      if (!Equality.isEqualIgnoringOrder(actual, expected)) {
+        addMessage(Equality.formatNotEqualIgnoringOrder, fieldLabel, actual, expected);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Equality#isEqualWithError is not equal to} the
+     * <var>expected</var> input.
+     * <blockquote>{@value Equality#formatNotEqualWithError}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualWithError(final String fieldLabel, final double actual,
+        final double expected, final double epsilon, final S... values) {
+      if (!Equality.isEqualWithError(actual, expected, epsilon)) {
+        addMessage(Equality.formatNotEqualWithError, fieldLabel, actual, expected, epsilon);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Tolerance#isWithin is not within} the
+     * <var>tolerance</var> of the <var>expected</var> input.
+     * <blockquote>{@value Equality#formatNotEqualWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The <var>expected</var> value to compare against.
+     * @param tolerance The absolute, relative or ULP tolerance of the comparison. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualWithError(final String fieldLabel, final double actual,
+        final double expected, final Tolerance tolerance, final S... values) {
+      if (!tolerance.isWithin(actual, expected)) {
+        addMessage(Equality.formatNotEqualWithTolerance, fieldLabel, String.valueOf(actual),
+            String.valueOf(expected), tolerance);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that any element of the <var>actual</var> input {@link Tolerance#isWithin is not
+     * within} the <var>tolerance</var> of the element at the same index of the <var>expected</var>
+     * input, or that their lengths differ, in a single pass that does not allocate. A failure
+     * reports the number of elements out of tolerance and the worst of them.
+     * <blockquote>{@value Equality#formatNotEqualArrayWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param tolerance The absolute, relative or ULP tolerance of each comparison. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualWithError(final String fieldLabel, final double[] actual,
+        final double[] expected, final Tolerance tolerance, final S... values) {
+      return ifNotEqualWithTolerance(fieldLabel, actual, expected, tolerance,
+          Equality.worstIndex(actual, expected, tolerance), values);
+    }
+
+    /**
+     * Asserts that any element of the <var>actual</var> input {@link Tolerance#isWithin is not
+     * within} the <var>tolerance</var> of the element at the same index of the <var>expected</var>
+     * input, or that their lengths differ, in a single pass that does not allocate. A failure
+     * reports the number of elements out of tolerance and the worst of them.
+     * <blockquote>{@value Equality#formatNotEqualArrayWithTolerance}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param expected The <var>expected</var> value to compare against. (May be null)
+     * @param tolerance The absolute, relative or ULP tolerance of each comparison. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotEqualWithError(final String fieldLabel, final float[] actual,
+        final float[] expected, final Tolerance tolerance, final S... values) {
+      return ifNotEqualWithTolerance(fieldLabel, actual, expected, tolerance,
+          Equality.worstIndex(actual, expected, tolerance), values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link ValueSet#contains is not in} the prebuilt
+     * <var>expected</var> {@link ValueSet}.
+     * <blockquote>{@value Collections#formatNotIn}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The prebuilt <var>expected</var> values to compare against. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotIn(final String fieldLabel, final T actual,
+        final ValueSet<? super T> expected, final S... values) {
+      if (!expected.contains(actual)) {
+        addMessage(Collections.formatNotIn, fieldLabel, actual, expected.size());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link MappedValueSet#contains is not in} the
+     * memory-mapped <var>expected</var> {@link MappedValueSet}.
+     * <blockquote>{@value Collections#formatNotIn}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The memory-mapped <var>expected</var> values to compare against. (Cannot be
+     * null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotIn(final String fieldLabel, final CharSequence actual,
+        final MappedValueSet expected, final S... values) {
+      if (!expected.contains(actual)) {
+        addMessage(Collections.formatNotIn, fieldLabel, actual, expected.size());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link IntegerSet#contains(int) is not in} the
+     * compressed <var>expected</var> {@link IntegerSet}, without boxing.
+     * <blockquote>{@value Collections#formatNotInInteger}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The compressed <var>expected</var> values to compare against. (Cannot be
+     * null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotIn(final String fieldLabel, final int actual,
+        final IntegerSet expected, final S... values) {
+      if (!expected.contains(actual)) {
+        addMessage(Collections.formatNotInInteger, fieldLabel, actual, expected.size());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link IntegerSet#contains(long) is not in} the
+     * compressed <var>expected</var> {@link IntegerSet}, without boxing.
+     * <blockquote>{@value Collections#formatNotInInteger}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param expected The compressed <var>expected</var> values to compare against. (Cannot be
+     * null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotIn(final String fieldLabel, final long actual,
+        final IntegerSet expected, final S... values) {
+      if (!expected.contains(actual)) {
+        addMessage(Collections.formatNotInInteger, fieldLabel, actual, expected.size());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#matches does not match} the regular
+     * expression
+     * <var>pattern</var> input.
+     * <blockquote>{@value Strings#formatNotMatches}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param pattern The regular expression <var>pattern</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotMatches(final String fieldLabel, final CharSequence actual,
+        final String pattern, final S... values) {
+      if (!Strings.matches.test(actual, pattern)) {
+        addMessage(Strings.formatNotMatches, fieldLabel, actual, pattern);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#matchesLinear does not match} the
+     * precompiled <var>pattern</var> input, in time linear in the input length if the pattern
+     * {@link LinearPattern#isLinear() is linear}.
+     * <blockquote>{@value Strings#formatNotMatches}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param pattern The precompiled <var>pattern</var> value to compare against. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotMatches(final String fieldLabel, final CharSequence actual,
+        final LinearPattern pattern, final S... values) {
+      if (!Strings.matchesLinear.test(actual, pattern)) {
+        addMessage(Strings.formatNotMatches, fieldLabel, actual, pattern.pattern());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#matchesUtf8 does not match} the
+     * regular expression <var>pattern</var> input.
+     * <blockquote>{@value Strings#formatNotMatches}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param pattern The regular expression <var>pattern</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotMatchesUtf8(final String fieldLabel, final ByteBuffer actual,
+        final String pattern, final S... values) {
+      if (!Strings.matchesUtf8.test(actual, pattern)) {
+        addMessage(Strings.formatNotMatches, fieldLabel, Strings.render(actual), pattern);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#matchesLinearUtf8 does not match}
+     * the precompiled <var>pattern</var> input, in time linear in the input length if the pattern
+     * {@link LinearPattern#isLinear() is linear}.
+     * <blockquote>{@value Strings#formatNotMatches}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param pattern The precompiled <var>pattern</var> value to compare against. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotMatchesUtf8(final String fieldLabel, final ByteBuffer actual,
+        final LinearPattern pattern, final S... values) {
+      if (!Strings.matchesLinearUtf8.test(actual, pattern)) {
+        addMessage(Strings.formatNotMatches, fieldLabel, Strings.render(actual), pattern.pattern());
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotMonotonic is not monotonic},
+     * i.e. neither ascending nor descending throughout, equal neighbors being allowed in either,
+     * and reports the first index at which both orders are broken. Inputs of {@value
+     * Sequences#parallelThreshold} elements or more are checked in parallel chunks.
+     * <blockquote>{@value Sequences#formatNotMonotonic}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotMonotonic(final String fieldLabel, final int[] actual,
+        final S... values) {
+      final int index = actual == null ? -1 : Sequences.firstNotMonotonic(actual.length,
+          (k, j) -> Integer.compare(actual[k], actual[j]));
+      return ifInverted(Sequences.formatNotMonotonic, fieldLabel, actual, index, values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotMonotonic is not monotonic},
+     * i.e. neither ascending nor descending throughout, equal neighbors being allowed in either,
+     * and reports the first index at which both orders are broken. Inputs of {@value
+     * Sequences#parallelThreshold} elements or more are checked in parallel chunks.
+     * <blockquote>{@value Sequences#formatNotMonotonic}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotMonotonic(final String fieldLabel, final long[] actual,
+        final S... values) {
+      final int index = actual == null ? -1 : Sequences.firstNotMonotonic(actual.length,
+          (k, j) -> Long.compare(actual[k], actual[j]));
+      return ifInverted(Sequences.formatNotMonotonic, fieldLabel, actual, index, values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotMonotonic is not monotonic},
+     * i.e. neither ascending nor descending throughout, equal neighbors being allowed in either,
+     * and reports the first index at which both orders are broken. Inputs of {@value
+     * Sequences#parallelThreshold} elements or more are checked in parallel chunks.
+     * <blockquote>{@value Sequences#formatNotMonotonic}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotMonotonic(final String fieldLabel, final double[] actual,
+        final S... values) {
+      final int index = actual == null ? -1 : Sequences.firstNotMonotonic(actual.length,
+          (k, j) -> Double.compare(actual[k], actual[j]));
+      return ifInverted(Sequences.formatNotMonotonic, fieldLabel, actual, index, values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotMonotonic is not monotonic},
+     * i.e. neither ascending nor descending throughout, equal neighbors being allowed in either,
+     * and reports the first index at which both orders are broken. Random access lists of {@value
+     * Sequences#parallelThreshold} elements or more are checked in parallel chunks, so
+     * <var>comparator</var> must be thread-safe.
+     * <blockquote>{@value Sequences#formatNotMonotonic}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param comparator The order of the elements. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotMonotonic(final String fieldLabel, final List<T> actual,
+        final Comparator<? super T> comparator, final S... values) {
+      return ifInverted(Sequences.formatNotMonotonic, fieldLabel, actual,
+          actual == null ? -1 : Sequences.firstNotMonotonic(actual, comparator), values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotMonotonic is not monotonic},
+     * i.e. neither ascending nor descending throughout, equal neighbors being allowed in either,
+     * and reports the first index at which both orders are broken. by the elements' natural order,
+     * e.g. that a list of {@link Instant} timestamps is chronological. Random access lists of
+     * {@value Sequences#parallelThreshold} elements or more are checked in parallel chunks.
+     * <blockquote>{@value Sequences#formatNotMonotonic}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null,
+     * but cannot contain null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T extends Comparable<? super T>> Checker<S> ifNotMonotonic(final String fieldLabel,
+        final List<T> actual, final S... values) {
+      return ifNotMonotonic(fieldLabel, actual, Comparator.naturalOrder(), values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link #isNull is not null}.
+     * <blockquote>{@value #formatNotNull}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotNull(final String fieldLabel, final T actual, final S... values) {
+      if (!isNull.test(actual)) {
+        addMessage(formatNotNull, fieldLabel);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Collections#orphans has elements that are not
+     * referenced}, i.e. whose primary key is not the foreign key of any element of the
+     * <var>referencing</var> collection. The keys of the smaller collection are indexed by hash and
+     * the larger collection is streamed past the index, in parallel if it has {@value
+     * Collections#parallelThreshold} elements or more. A failure reports the number of
+     * unreferenced elements and the keys of the first {@link RenderingBudget#getMaxElements()} of
+     * them.
+     * <blockquote>{@value Collections#formatNotReferenced}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param primaryKey The function extracting the key of each element of <var>actual</var>.
+     * (Cannot be null)
+     * @param referencing The elements referencing <var>actual</var>. (May be null)
+     * @param foreignKey The function extracting the key each element of <var>referencing</var>
+     * references. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <A, B> Checker<S> ifNotReferenced(final String fieldLabel, final Collection<A> actual,
+        final Function<? super A, ?> primaryKey, final Collection<B> referencing,
+        final Function<? super B, ?> foreignKey, final S... values) {
+      return ifOrphans(Collections.formatNotReferenced, fieldLabel, actual, primaryKey,
+          referencing, foreignKey, values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotSorted is not sorted} in
+     * ascending order, equal elements being allowed in any order, and reports the first index out
+     * of order. Inputs of {@value Sequences#parallelThreshold} elements or more are checked in
+     * parallel chunks.
+     * <blockquote>{@value Sequences#formatNotSorted}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotSorted(final String fieldLabel, final int[] actual,
+        final S... values) {
+      final int index = actual == null ? -1 : Sequences.firstNotSorted(actual.length,
+          (k, j) -> Integer.compare(actual[k], actual[j]));
+      return ifInverted(Sequences.formatNotSorted, fieldLabel, actual, index, values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotSorted is not sorted} in
+     * ascending order, equal elements being allowed in any order, and reports the first index out
+     * of order. Inputs of {@value Sequences#parallelThreshold} elements or more are checked in
+     * parallel chunks.
+     * <blockquote>{@value Sequences#formatNotSorted}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotSorted(final String fieldLabel, final long[] actual,
+        final S... values) {
+      final int index = actual == null ? -1 : Sequences.firstNotSorted(actual.length,
+          (k, j) -> Long.compare(actual[k], actual[j]));
+      return ifInverted(Sequences.formatNotSorted, fieldLabel, actual, index, values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotSorted is not sorted} in
+     * ascending order, equal elements being allowed in any order, and reports the first index out
+     * of order. Inputs of {@value Sequences#parallelThreshold} elements or more are checked in
+     * parallel chunks.
+     * <blockquote>{@value Sequences#formatNotSorted}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotSorted(final String fieldLabel, final double[] actual,
+        final S... values) {
+      final int index = actual == null ? -1 : Sequences.firstNotSorted(actual.length,
+          (k, j) -> Double.compare(actual[k], actual[j]));
+      return ifInverted(Sequences.formatNotSorted, fieldLabel, actual, index, values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotSorted is not sorted} in
+     * ascending order, equal elements being allowed in any order, and reports the first index out
+     * of order. Random access lists of {@value Sequences#parallelThreshold} elements or more are
+     * checked in parallel chunks, so <var>comparator</var> must be thread-safe.
+     * <blockquote>{@value Sequences#formatNotSorted}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param comparator The order of the elements. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotSorted(final String fieldLabel, final List<T> actual,
+        final Comparator<? super T> comparator, final S... values) {
+      return ifInverted(Sequences.formatNotSorted, fieldLabel, actual,
+          actual == null ? -1 : Sequences.firstNotSorted(actual, comparator), values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Sequences#firstNotSorted is not sorted} in
+     * ascending order, equal elements being allowed in any order, and reports the first index out
+     * of order. by the elements' natural order, e.g. that a list of {@link Instant} timestamps is
+     * chronological. Random access lists of {@value Sequences#parallelThreshold} elements or more
+     * are checked in parallel chunks.
+     * <blockquote>{@value Sequences#formatNotSorted}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null,
+     * but cannot contain null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T extends Comparable<? super T>> Checker<S> ifNotSorted(final String fieldLabel,
+        final List<T> actual, final S... values) {
+      return ifNotSorted(fieldLabel, actual, Comparator.naturalOrder(), values);
+    }
+
+    /**
+     * Asserts that the keys extracted from the elements of <var>actual</var> input {@link
+     * Collections#duplicates(Iterable, Function, int, List) are not unique}, in a single hashing
+     * pass. Composite keys can be extracted as any value with a consistent {@link Object#equals}
+     * and {@link Object#hashCode()}, such as a {@link List} of the key fields. A failure reports
+     * the number of duplicate keys and the first {@link RenderingBudget#getMaxElements()} of them,
+     * each with the indices of its first and repeated occurrence.
+     * <blockquote>{@value Collections#formatNotUnique}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param keyExtractor The function extracting each element's key. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNotUnique(final String fieldLabel, final Collection<T> actual,
+        final Function<? super T, ?> keyExtractor, final S... values) {
+      final List<Collections.Duplicate> duplicates = new ArrayList<>();
+      final int count = actual == null ? 0 : Collections
+          .duplicates(actual, keyExtractor, budget.getMaxElements(), duplicates);
+      return ifDuplicates(Collections.formatNotUnique, fieldLabel, actual, count, duplicates,
+          values);
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#isWithinMaxCodePoints is not within max
+     * code point length} of the <var>maxCodePoints</var> input, counting surrogate pairs as one
+     * code point. Only inputs whose char length does not already decide the check are scanned, and
+     * the scan stops as soon as the limit is exceeded, so that only a failure counts every code
+     * point, to report it.
+     * <blockquote>{@value Strings#formatIsNotWithinMaxCodePoints}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param maxCodePoints The <var>maxCodePoints</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotWithinMaxCodePoints(final String fieldLabel, final CharSequence actual,
+        final int maxCodePoints, final S... values) {
+      if (!Strings.isWithinMaxCodePoints.test(actual, maxCodePoints)) {
+        addMessage(Strings.formatIsNotWithinMaxCodePoints, fieldLabel, actual,
+            Character.codePointCount(actual, 0, actual.length()), maxCodePoints);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#isWithinMaxLength is not within max
+     * character length} of the <var>maxLength</var> input.
+     * <blockquote>{@value Strings#formatIsNotWithinMaxLength}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param maxLength The <var>maxLength</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotWithinMaxLength(final String fieldLabel, final CharSequence actual,
+        final int maxLength, final S... values) {
+      if (!Strings.isWithinMaxLength.test(actual, maxLength)) {
+        addMessage(Strings.formatIsNotWithinMaxLength, fieldLabel, actual,
+            actual != null ? actual.length() : 0, maxLength);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#isWithinMaxLengthUtf8 is not within
+     * max character length} of the <var>maxLength</var> input, counting characters as {@link
+     * String#length()} would once decoded.
+     * <blockquote>{@value Strings#formatIsNotWithinMaxLength}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param maxLength The <var>maxLength</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotWithinMaxLengthUtf8(final String fieldLabel, final ByteBuffer actual,
+        final int maxLength, final S... values) {
+      if (!Strings.isWithinMaxLengthUtf8.test(actual, maxLength)) {
+        addMessage(Strings.formatIsNotWithinMaxLength, fieldLabel, Strings.render(actual),
+            actual != null ? Utf8.length(actual) : 0, maxLength);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Strings#isWithinMaxUtf8Bytes is not within max
+     * UTF-8 byte length} of the <var>maxBytes</var> input, counting the bytes it would encode to
+     * without encoding it. Only inputs whose char length does not already decide the check are
+     * scanned, and the scan stops as soon as the limit is exceeded, so that only a failure counts
+     * every byte, to report it.
+     * <blockquote>{@value Strings#formatIsNotWithinMaxUtf8Bytes}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param maxBytes The <var>maxBytes</var> value to compare against.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifNotWithinMaxUtf8Bytes(final String fieldLabel, final CharSequence actual,
+        final int maxBytes, final S... values) {
+      if (!Strings.isWithinMaxUtf8Bytes.test(actual, maxBytes)) {
+        addMessage(Strings.formatIsNotWithinMaxUtf8Bytes, fieldLabel, actual,
+            Utf8.encodedLength(actual, Long.MAX_VALUE), maxBytes);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Dates#isWithinWindow(Instant, long, Duration) is
+     * not within} the provided <var>window</var> around the current time of the provided
+     * <var>clock</var>.
+     * <blockquote>{@value Dates#formatNotWithinWindow}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param clock The {@link Clock} to read the current time from, e.g. a {@link CoarseClock}.
+     * (Cannot be null)
+     * @param window The allowed distance of <var>actual</var> from the current time, in either
+     * direction. (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>window</var> is negative.
+     */
+    public Checker<S> ifNotWithinWindow(final String fieldLabel, final Instant actual,
+        final Clock clock, final Duration window, final S... values) {
+      final long now = clock.millis();
+      if (!Dates.isWithinWindow(actual, now, window)) {
+        addMessage(Dates.formatNotWithinWindow, fieldLabel, actual, Instant.ofEpochMilli(now),
+            window);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> epoch milliseconds input {@link Dates#isWithinWindow(long,
+     * long, Duration) is not within} the provided <var>window</var> around the current time of the
+     * provided <var>clock</var>.
+     * <blockquote>{@value Dates#formatNotWithinWindow}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations, in
+     * milliseconds since the epoch.
+     * @param clock The {@link Clock} to read the current time from, e.g. a {@link CoarseClock}.
+     * (Cannot be null)
+     * @param window The allowed distance of <var>actual</var> from the current time, in either
+     * direction. (Cannot be null or negative)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>window</var> is negative.
+     */
+    public Checker<S> ifNotWithinWindow(final String fieldLabel, final long actual,
+        final Clock clock, final Duration window, final S... values) {
+      final long now = clock.millis();
+      if (!Dates.isWithinWindow(actual, now, window)) {
+        addMessage(Dates.formatNotWithinWindow, fieldLabel, Instant.ofEpochMilli(actual),
+            Instant.ofEpochMilli(now), window);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link #isNull is null}.
+     * <blockquote>{@value #formatNull}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T> Checker<S> ifNull(final String fieldLabel, final T actual, final S... values) {
+      if (isNull.test(actual)) {
+        addMessage(formatNull, fieldLabel);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that neither <var>actual1</var> input nor <var>actual2</var> input {@link
+     * #isOrNotNull are null}.
+     * <blockquote>{@value #formatOrNotNull}</blockquote>
+     *
+     * @param field1Label The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual1 The <var>actual1</var> input to assert against the expectations.
+     * @param field2Label The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual2 The <var>actual2</var> input to assert against the expectations.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T, U> Checker<S> ifOrNotNull(final String field1Label, final T actual1,
+        final String field2Label, final U actual2, final S... values) {
+      if (isOrNotNull.test(actual1, actual2)) {
+        addFieldsMessage(formatOrNotNull, field1Label, field2Label);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that either <var>actual1</var> input or <var>actual2</var> input {@link #isOrNull are
+     * null}.
+     * <blockquote>{@value #formatOrNull}</blockquote>
+     *
+     * @param field1Label The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual1 The <var>actual1</var> input to assert against the expectations.
+     * @param field2Label The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual2 The <var>actual2</var> input to assert against the expectations.
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T, U> Checker<S> ifOrNull(final String field1Label, final T actual1,
+        final String field2Label, final U actual2, final S... values) {
+      if (isOrNull.test(actual1, actual2)) {
+        addFieldsMessage(formatOrNull, field1Label, field2Label);
+        addValues(values);
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link Collections#orphans has elements whose foreign
+     * key is orphaned}, i.e. is not the primary key of any element of the <var>referenced</var>
+     * collection. The keys of the smaller collection are indexed by hash and the larger collection
+     * is streamed past the index, in parallel if it has {@value Collections#parallelThreshold}
+     * elements or more. A failure reports the number of orphaned elements and the keys of the
+     * first {@link RenderingBudget#getMaxElements()} of them.
+     * <blockquote>{@value Collections#formatOrphaned}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param foreignKey The function extracting the key each element of <var>actual</var>
+     * references. (Cannot be null)
+     * @param referenced The elements <var>actual</var> references. (May be null)
+     * @param primaryKey The function extracting the key of each element of <var>referenced</var>.
+     * (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <A, B> Checker<S> ifOrphaned(final String fieldLabel, final Collection<A> actual,
+        final Function<? super A, ?> foreignKey, final Collection<B> referenced,
+        final Function<? super B, ?> primaryKey, final S... values) {
+      return ifOrphans(Collections.formatOrphaned, fieldLabel, actual, foreignKey, referenced,
+          primaryKey, values);
+    }
+
+    /**
+     * Asserts that the {@link Statistics} of <var>actual</var> input, all computed in a single pass
+     * and in parallel chunks for long inputs, {@link StatisticalBounds#violations are outside} the
+     * <var>bounds</var>. A failure renders the statistics and each bound violated.
+     * <blockquote>{@value PrimitiveArrays#formatOutsideStatisticalBounds}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param bounds The bounds the statistics must keep to. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifOutsideStatisticalBounds(final String fieldLabel, final double[] actual,
+        final StatisticalBounds bounds, final S... values) {
+      if (actual != null) {
+        final Statistics statistics = Statistics.of(actual);
+        final List<String> violations = bounds.violations(statistics);
+        if (!violations.isEmpty()) {
+          addMessage(PrimitiveArrays.formatOutsideStatisticalBounds, fieldLabel, actual,
+              statistics, violations);
+          addValues(values);
+        }
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that the {@link Statistics} of <var>actual</var> input, all computed in a single pass
+     * and in parallel chunks for long inputs, {@link StatisticalBounds#violations are outside} the
+     * <var>bounds</var>. A failure renders the statistics and each bound violated.
+     * <blockquote>{@value PrimitiveArrays#formatOutsideStatisticalBounds}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param bounds The bounds the statistics must keep to. (Cannot be null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public Checker<S> ifOutsideStatisticalBounds(final String fieldLabel, final long[] actual,
+        final StatisticalBounds bounds, final S... values) {
+      if (actual != null) {
+        final Statistics statistics = Statistics.of(actual);
+        final List<String> violations = bounds.violations(statistics);
+        if (!violations.isEmpty()) {
+          addMessage(PrimitiveArrays.formatOutsideStatisticalBounds, fieldLabel, actual,
+              statistics, violations);
+          addValues(values);
+        }
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that the {@link Statistics} of <var>actual</var> input, all computed in a single pass
+     * that consumes the stream, in parallel if it is a parallel stream, {@link
+     * StatisticalBounds#violations are outside} the <var>bounds</var>. A failure renders the
+     * statistics and each bound violated.
+     * <blockquote>{@value PrimitiveArrays#formatOutsideStatisticalBoundsStream}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param bounds The bounds the statistics must keep to. (Cannot be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifNotEqualDate(final String fieldLabel,
-        final LocalDateTime actual,
-        final LocalDateTime expected,
-        final long tolerance,
-        final S... values) {
-      if (!Equality.isEqualDateWithTolerance(actual, expected, tolerance)) {
-        messages.add(MessageFormat
-            .format(Equality.formatNotEqualDateWithTolerance, className, fieldLabel, actual,
-                expected, tolerance));
-        addValues(values);
+    public Checker<S> ifOutsideStatisticalBounds(final String fieldLabel,
+        final DoubleStream actual, final StatisticalBounds bounds, final S... values) {
+      if (actual != null) {
+        final Statistics statistics = Statistics.of(actual);
+        final List<String> violations = bounds.violations(statistics);
+        if (!violations.isEmpty()) {
+          addMessage(PrimitiveArrays.formatOutsideStatisticalBoundsStream, fieldLabel, statistics,
+              violations);
+          addValues(values);
+        }
       }
 
       return this;
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Equality#isEqualWithError is not equal to} the
-     * <var>expected</var> input.
-     * <blockquote>{@value Equality#formatNotEqualWithError}</blockquote>
+     * Asserts that any of the half-open intervals [<var>starts</var>[i], <var>ends</var>[i])
+     * overlap, by sorting them by start and sweeping them in that order in O(n log n), or in O(n)
+     * if they are already sorted by start. A failure reports the number of intervals overlapping an
+     * interval that starts before them, and the index pairs of the first {@link
+     * RenderingBudget#getMaxElements()} such overlaps.
+     * <blockquote>{@value Ranges#formatOverlapping}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param expected The <var>expected</var> value to compare against.
+     * @param starts The inclusive starts of the intervals. (May be null)
+     * @param ends The exclusive ends of the intervals, by the same index. (Cannot be null if
+     * <var>starts</var> is not, and must have the same length)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>starts</var> is not null, and <var>ends</var> is
+     * null or of a different length.
      */
-    public Checker<S> ifNotEqualWithError(final String fieldLabel, final double actual,
-        final double expected, final double epsilon, final S... values) {
-      if (!Equality.isEqualWithError(actual, expected, epsilon)) {
-        messages.add(MessageFormat
-            .format(Equality.formatNotEqualWithError, className, fieldLabel, actual, expected,
-                epsilon));
-        addValues(values);
+    public Checker<S> ifOverlapping(final String fieldLabel, final long[] starts,
+        final long[] ends, final S... values) {
+      if (starts != null) {
+        if (ends == null || ends.length != starts.length) {
+          throw new IllegalArgumentException("Ends[" + (ends != null ? ends.length : null)
+              + "] must match the length of starts[" + starts.length + "].");
+        }
+        final List<List<Integer>> pairs = new ArrayList<>();
+        final int count = Ranges.overlaps(starts.length,
+            (i, j) -> Long.compare(starts[i], starts[j]),
+            (i, j) -> Long.compare(starts[i], ends[j]),
+            (i, j) -> Long.compare(ends[i], ends[j]), budget.getMaxElements(), pairs);
+        if (count > 0) {
+          addMessage(Ranges.formatOverlapping, fieldLabel, starts, count, pairs);
+          addValues(values);
+        }
       }
 
       return this;
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Strings#matches does not match} the regular
-     * expression
-     * <var>pattern</var> input.
-     * <blockquote>{@value Strings#formatNotMatches}</blockquote>
+     * Asserts that any of the half-open intervals [<var>start</var>, <var>end</var>) of the
+     * elements of <var>actual</var> input overlap, by sorting them by start and sweeping them in
+     * that order in O(n log n), or in O(n) if they are already sorted by start. A failure reports
+     * the number of intervals overlapping an interval that starts before them, and the index pairs
+     * of the first {@link RenderingBudget#getMaxElements()} such overlaps.
+     * <blockquote>{@value Ranges#formatOverlapping}</blockquote>
+     *
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
+     * blank)
+     * @param actual The <var>actual</var> input to assert against the expectations. (May be null)
+     * @param start The function extracting the inclusive start of each element's interval.
+     * (Cannot be null)
+     * @param end The function extracting the exclusive end of each element's interval. (Cannot be
+     * null)
+     * @param values Additional indicator values that corresponds to the potential failure. (May be
+     * null)
+     * @return This non-null {@link Checker}.
+     */
+    public <T, C extends Comparable<? super C>> Checker<S> ifOverlapping(final String fieldLabel,
+        final Collection<T> actual, final Function<? super T, ? extends C> start,
+        final Function<? super T, ? extends C> end, final S... values) {
+      if (actual != null) {
+        final List<C> starts = new ArrayList<>(actual.size());
+        final List<C> ends = new ArrayList<>(actual.size());
+        for (final T interval : actual) {
+          starts.add(start.apply(interval));
+          ends.add(end.apply(interval));
+        }
+        final List<List<Integer>> pairs = new ArrayList<>();
+        final int count = Ranges.overlaps(actual.size(),
+            (i, j) -> starts.get(i).compareTo(starts.get(j)),
+            (i, j) -> starts.get(i).compareTo(ends.get(j)),
+            (i, j) -> ends.get(i).compareTo(ends.get(j)), budget.getMaxElements(), pairs);
+        if (count > 0) {
+          addMessage(Ranges.formatOverlapping, fieldLabel, actual, count, pairs);
+          addValues(values);
+        }
+      }
+
+      return this;
+    }
+
+    /**
+     * Asserts that <var>actual</var> input {@link PrefixSet#longestPrefix starts with any} of the
+     * <var>prefixes</var> input, naming the longest such prefix.
+     * <blockquote>{@value Strings#formatStartsWithAny}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param pattern The regular expression <var>pattern</var> value to compare against.
+     * @param prefixes The prebuilt <var>prefixes</var> to compare against. (Cannot be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifNotMatches(final String fieldLabel, final String actual,
-        final String pattern, final S... values) {
-      if (!Strings.matches.test(actual, pattern)) {
-        messages.add(
-            MessageFormat.format(Strings.formatNotMatches, className, fieldLabel, actual, pattern));
+    public Checker<S> ifStartsWithAny(final String fieldLabel, final CharSequence actual,
+        final PrefixSet prefixes, final S... values) {
+      final String prefix = actual != null ? prefixes.longestPrefix(actual) : null;
+      if (prefix != null) {
+        addMessage(Strings.formatStartsWithAny, fieldLabel, actual, prefix);
         addValues(values);
       }
 
@@ -713,19 +3798,22 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link #isNull is not null}.
-     * <blockquote>{@value #formatNotNull}</blockquote>
+     * Asserts that <var>actual</var> input {@link PrefixSet#longestPrefix starts with none} of the
+     * <var>prefixes</var> input.
+     * <blockquote>{@value Strings#formatStartsWithNone}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param prefixes The prebuilt <var>prefixes</var> to compare against. (Cannot be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifNotNull(final String fieldLabel, final T actual, final S... values) {
-      if (!isNull.test(actual)) {
-        messages.add(MessageFormat.format(formatNotNull, className, fieldLabel));
+    public Checker<S> ifStartsWithNone(final String fieldLabel, final CharSequence actual,
+        final PrefixSet prefixes, final S... values) {
+      if (actual == null || !prefixes.isPrefixOf(actual)) {
+        addMessage(Strings.formatStartsWithNone, fieldLabel, actual, prefixes.size());
         addValues(values);
       }
 
@@ -733,24 +3821,25 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Strings#isWithinMaxLength is not within max
-     * character length} of the <var>maxLength</var> input.
-     * <blockquote>{@value Strings#formatIsNotWithinMaxLength}</blockquote>
+     * Asserts that <var>actual</var> input {@link StringRule#violations violates} any constraint
+     * of the <var>rule</var>, all of which are checked together in a single scan of the input. A
+     * failure reports each constraint violated.
+     * <blockquote>{@value Strings#formatViolates}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param maxLength The <var>maxLength</var> value to compare against.
+     * @param actual The <var>actual</var> input to assert against the expectations, where null is
+     * checked as the empty string. (May be null)
+     * @param rule The constraints the input must keep to. (Cannot be null)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public Checker<S> ifNotWithinMaxLength(final String fieldLabel, final String actual,
-        final int maxLength, final S... values) {
-      if (!Strings.isWithinMaxLength.test(actual, maxLength)) {
-        messages.add(MessageFormat
-            .format(Strings.formatIsNotWithinMaxLength, className, fieldLabel, actual,
-                actual != null ? actual.length() : 0, maxLength));
+    public Checker<S> ifViolates(final String fieldLabel, final CharSequence actual,
+        final StringRule rule, final S... values) {
+      final List<String> violations = rule.violations(actual);
+      if (!violations.isEmpty()) {
+        addMessage(Strings.formatViolates, fieldLabel, actual, rule, violations);
         addValues(values);
       }
 
@@ -758,19 +3847,24 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link #isNull is null}.
-     * <blockquote>{@value #formatNull}</blockquote>
+     * Asserts that <var>actual</var> input {@link Strings#isWithinMaxLength is within max character
+     * length} of the
+     * <var>maxLength</var> input.
+     * <blockquote>{@value Strings#formatIsWithinMaxLength}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
      * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param maxLength The <var>maxLength</var> value to compare against.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T> Checker<S> ifNull(final String fieldLabel, final T actual, final S... values) {
-      if (isNull.test(actual)) {
-        messages.add(MessageFormat.format(formatNull, className, fieldLabel));
+    public Checker<S> ifWithinMaxLength(final String fieldLabel, final CharSequence actual,
+        final int maxLength, final S... values) {
+      if (Strings.isWithinMaxLength.test(actual, maxLength)) {
+        addMessage(Strings.formatIsWithinMaxLength, fieldLabel, actual,
+            actual != null ? actual.length() : 0, maxLength);
         addValues(values);
       }
 
@@ -778,24 +3872,25 @@ public class Verifier {
     }
 
     /**
-     * Asserts that neither <var>actual1</var> input nor <var>actual2</var> input {@link
-     * #isOrNotNull are null}.
-     * <blockquote>{@value #formatOrNotNull}</blockquote>
+     * Asserts that UTF-8 <var>actual</var> input {@link Strings#isWithinMaxLengthUtf8 is within max
+     * character length} of the <var>maxLength</var> input, counting characters as {@link
+     * String#length()} would once decoded.
+     * <blockquote>{@value Strings#formatIsWithinMaxLength}</blockquote>
      *
-     * @param field1Label The field's name to display as part of the diagnostic message. (Cannot be
-     * blank)
-     * @param actual1 The <var>actual1</var> input to assert against the expectations.
-     * @param field2Label The field's name to display as part of the diagnostic message. (Cannot be
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual2 The <var>actual2</var> input to assert against the expectations.
+     * @param actual The UTF-8 encoded <var>actual</var> input to assert against the expectations,
+     * read from its position to its limit without changing either.
+     * @param maxLength The <var>maxLength</var> value to compare against.
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
      */
-    public <T, U> Checker<S> ifOrNotNull(final String field1Label, final T actual1,
-        final String field2Label, final U actual2, final S... values) {
-      if (isOrNotNull.test(actual1, actual2)) {
-        messages.add(MessageFormat.format(formatOrNotNull, className, field1Label, field2Label));
+    public Checker<S> ifWithinMaxLengthUtf8(final String fieldLabel, final ByteBuffer actual,
+        final int maxLength, final S... values) {
+      if (Strings.isWithinMaxLengthUtf8.test(actual, maxLength)) {
+        addMessage(Strings.formatIsWithinMaxLength, fieldLabel, Strings.render(actual),
+            actual != null ? Utf8.length(actual) : 0, maxLength);
         addValues(values);
       }
 
@@ -803,24 +3898,29 @@ public class Verifier {
     }
 
     /**
-     * Asserts that either <var>actual1</var> input or <var>actual2</var> input {@link #isOrNull are
-     * null}.
-     * <blockquote>{@value #formatOrNull}</blockquote>
+     * Asserts that <var>actual</var> input {@link Dates#isWithinWindow(Instant, long, Duration) is
+     * within} the provided <var>window</var> around the current time of the provided
+     * <var>clock</var>.
+     * <blockquote>{@value Dates#formatWithinWindow}</blockquote>
      *
-     * @param field1Label The field's name to display as part of the diagnostic message. (Cannot be
-     * blank)
-     * @param actual1 The <var>actual1</var> input to assert against the expectations.
-     * @param field2Label The field's name to display as part of the diagnostic message. (Cannot be
+     * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual2 The <var>actual2</var> input to assert against the expectations.
+     * @param actual The <var>actual</var> input to assert against the expectations.
+     * @param clock The {@link Clock} to read the current time from, e.g. a {@link CoarseClock}.
+     * (Cannot be null)
+     * @param window The allowed distance of <var>actual</var> from the current time, in either
+     * direction. (Cannot be null or negative)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>window</var> is negative.
      */
-    public <T, U> Checker<S> ifOrNull(final String field1Label, final T actual1,
-        final String field2Label, final U actual2, final S... values) {
-      if (isOrNull.test(actual1, actual2)) {
-        messages.add(MessageFormat.format(formatOrNull, className, field1Label, field2Label));
+    public Checker<S> ifWithinWindow(final String fieldLabel, final Instant actual,
+        final Clock clock, final Duration window, final S... values) {
+      final long now = clock.millis();
+      if (Dates.isWithinWindow(actual, now, window)) {
+        addMessage(Dates.formatWithinWindow, fieldLabel, actual, Instant.ofEpochMilli(now),
+            window);
         addValues(values);
       }
 
@@ -828,25 +3928,30 @@ public class Verifier {
     }
 
     /**
-     * Asserts that <var>actual</var> input {@link Strings#isWithinMaxLength is within max character
-     * length} of the
-     * <var>maxLength</var> input.
-     * <blockquote>{@value Strings#formatIsWithinMaxLength}</blockquote>
+     * Asserts that <var>actual</var> epoch milliseconds input {@link Dates#isWithinWindow(long,
+     * long, Duration) is within} the provided <var>window</var> around the current time of the
+     * provided <var>clock</var>.
+     * <blockquote>{@value Dates#formatWithinWindow}</blockquote>
      *
      * @param fieldLabel The field's name to display as part of the diagnostic message. (Cannot be
      * blank)
-     * @param actual The <var>actual</var> input to assert against the expectations.
-     * @param maxLength The <var>maxLength</var> value to compare against.
+     * @param actual The <var>actual</var> input to assert against the expectations, in
+     * milliseconds since the epoch.
+     * @param clock The {@link Clock} to read the current time from, e.g. a {@link CoarseClock}.
+     * (Cannot be null)
+     * @param window The allowed distance of <var>actual</var> from the current time, in either
+     * direction. (Cannot be null or negative)
      * @param values Additional indicator values that corresponds to the potential failure. (May be
      * null)
      * @return This non-null {@link Checker}.
+     * @throws IllegalArgumentException If <var>window</var> is negative.
      */
-    public Checker<S> ifWithinMaxLength(final String fieldLabel, final String actual,
-        final int maxLength, final S... values) {
-      if (Strings.isWithinMaxLength.test(actual, maxLength)) {
-        messages.add(MessageFormat
-            .format(Strings.formatIsWithinMaxLength, className, fieldLabel, actual,
-                actual != null ? actual.length() : 0, maxLength));
+    public Checker<S> ifWithinWindow(final String fieldLabel, final long actual,
+        final Clock clock, final Duration window, final S... values) {
+      final long now = clock.millis();
+      if (Dates.isWithinWindow(actual, now, window)) {
+        addMessage(Dates.formatWithinWindow, fieldLabel, Instant.ofEpochMilli(actual),
+            Instant.ofEpochMilli(now), window);
         addValues(values);
       }
 
@@ -871,7 +3976,7 @@ public class Verifier {
     public <T, U> Checker<S> ifNotXorNull(final String field1Label, final T actual1,
         final String field2Label, final U actual2, final S... values) {
       if (!isXorNull.test(actual1, actual2)) {
-        messages.add(MessageFormat.format(formatNotXorNull, className, field1Label, field2Label));
+        addFieldsMessage(formatNotXorNull, field1Label, field2Label);
         addValues(values);
       }
 
@@ -896,7 +4001,7 @@ public class Verifier {
     public <T, U> Checker<S> ifXorNull(final String field1Label, final T actual1,
         final String field2Label, final U actual2, final S... values) {
       if (isXorNull.test(actual1, actual2)) {
-        messages.add(MessageFormat.format(formatXorNull, className, field1Label, field2Label));
+        addFieldsMessage(formatXorNull, field1Label, field2Label);
         addValues(values);
       }
 
@@ -940,6 +4045,14 @@ public class Verifier {
 
   private static class Collections {
 
+    private static final String formatAnyInInteger = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected array[{2}] element[{4,number,#}] at index[{3,number,#}] to be in integer set"
+        + " of size[{5,number,#}].";
+    private static final String formatAnyNotInInteger = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected array[{2}] element[{4,number,#}] at index[{3,number,#}] to not be in integer"
+        + " set of size[{5,number,#}].";
     private static final String formatContainsAllValues = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected collection[{2}] to contain all values of collection[{3}].";
@@ -949,9 +4062,28 @@ public class Verifier {
     private static final String formatContainsNoValues = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected collection[{2}] to contain no values of collection[{3}].";
+    private static final String formatContainsDuplicates = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected collection[{2}] to contain [{3,number,#}] duplicates, the first at {4}.";
+    private static final String formatContainsDuplicatesArray = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected array[{2}] to contain [{3,number,#}] duplicates, the first at {4}.";
+    private static final String formatCyclic = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected graph[{2}] to contain a cycle of [{3,number,#}] edges, with path{4}.";
+    private static final String formatCyclicFromNodes = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected graph reachable from nodes[{2}] to contain a cycle of [{3,number,#}] edges,"
+        + " with path{4}.";
     private static final String formatEmptyCollection = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected collection[{2}] to be empty, or null.";
+    private static final String formatIn = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected value[{2}] to be in value set of size[{3,number,#}].";
+    private static final String formatInInteger = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected value[{2,number,#}] to be in integer set of size[{3,number,#}].";
     private static final String formatMatchesAllValues = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected collection[{2}] to match all values.";
@@ -961,9 +4093,30 @@ public class Verifier {
     private static final String formatMatchesNoValues = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected collection[{2}] to match no values.";
+    private static final String formatNotIn = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected value[{2}] to not be in value set of size[{3,number,#}].";
+    private static final String formatNotInInteger = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected value[{2,number,#}] to not be in integer set of size[{3,number,#}].";
     private static final String formatNotEmptyCollection = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected collection to not be empty, or null.";
+    private static final String formatNotReferenced = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected [{3,number,#}] elements of collection[{2}] to not be referenced by"
+        + " collection[{4}], with keys{5}.";
+    private static final String formatOrphaned = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected [{3,number,#}] elements of collection[{2}] to reference keys missing from"
+        + " collection[{4}], with keys{5}.";
+    private static final String formatNotUnique = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected collection[{2}] to contain [{3,number,#}] duplicate keys, the first at {4}.";
+
+    private static final int parallelThreshold = 1 << 16;
+
+    private static final int finished = -1;
 
     private static final Predicate<Collection<?>> isEmpty = actual -> actual == null || actual
         .isEmpty();
@@ -993,6 +4146,168 @@ public class Verifier {
       return actual.stream().anyMatch(v -> expected.contains(v));
     }
 
+    /**
+     * Joins <var>sources</var> to <var>targets</var> by key, indexing the keys of the smaller of
+     * the two in a hash set. If that is <var>targets</var>, the index is probed with each source
+     * key, and otherwise the targets are streamed past the index of source keys to collect those
+     * that are matched, which are at most as many as the sources.
+     *
+     * @param limit The maximum number of keys to add to <var>orphanKeys</var>.
+     * @return The number of <var>sources</var> whose key is not the key of any of
+     * <var>targets</var>, the first <var>limit</var> of whose keys are added to
+     * <var>orphanKeys</var>.
+     */
+    private static <A, B> int orphans(final Collection<A> sources,
+        final Function<? super A, ?> sourceKey, final Collection<B> targets,
+        final Function<? super B, ?> targetKey, final int limit, final List<Object> orphanKeys) {
+      final Set<Object> matched;
+      if (targets.size() <= sources.size()) {
+        matched = stream(targets).map(targetKey).collect(Collectors.toSet());
+      } else {
+        final Set<Object> keys = stream(sources).map(sourceKey).collect(Collectors.toSet());
+        matched = stream(targets).map(targetKey).filter(keys::contains)
+            .collect(Collectors.toSet());
+      }
+      final long count = stream(sources).map(sourceKey).filter(key -> !matched.contains(key))
+          .count();
+      if (count > 0) {
+        sources.stream().map(sourceKey).filter(key -> !matched.contains(key)).limit(limit)
+            .forEach(orphanKeys::add);
+      }
+      return (int) count;
+    }
+
+    private static <T> Stream<T> stream(final Collection<T> values) {
+      return values.size() < parallelThreshold ? values.stream() : values.parallelStream();
+    }
+
+    /**
+     * @param limit The maximum number of duplicates to add to <var>duplicates</var>.
+     * @return The number of elements of <var>values</var> whose key was already seen, the first
+     * <var>limit</var> of which are added to <var>duplicates</var>.
+     */
+    private static <T> int duplicates(final Iterable<T> values,
+        final Function<? super T, ?> keyExtractor, final int limit,
+        final List<Duplicate> duplicates) {
+      final Map<Object, Integer> firstIndices = new HashMap<>();
+      int count = 0;
+      int index = 0;
+      for (final T value : values) {
+        final Object key = keyExtractor.apply(value);
+        final Integer first = firstIndices.putIfAbsent(key, index);
+        if (first != null && count++ < limit) {
+          duplicates.add(new Duplicate(key, first, index));
+        }
+        index++;
+      }
+      return count;
+    }
+
+    /**
+     * Finds the duplicates among the <var>length</var> values given by index, with an open
+     * addressing hash table of the values and their first indices, so that no value is boxed unless
+     * it is reported.
+     *
+     * @param limit The maximum number of duplicates to add to <var>duplicates</var>.
+     * @return The number of values whose value was already seen, the first <var>limit</var> of
+     * which are added to <var>duplicates</var>.
+     */
+    private static int duplicates(final int length, final IntToLongFunction values,
+        final int limit, final List<Duplicate> duplicates) {
+      final int capacity = Integer.highestOneBit(Math.max(2, length) * 2 - 1) << 1;
+      final long[] keys = new long[capacity];
+      // One more than the first index of each value, so that zero marks a free slot.
+      final int[] firstIndices = new int[capacity];
+      final int shift = Long.numberOfLeadingZeros(capacity - 1);
+      int count = 0;
+      for (int i = 0; i < length; i++) {
+        final long value = values.applyAsLong(i);
+        int slot = (int) (value * 0x9E3779B97F4A7C15L >>> shift);
+        while (firstIndices[slot] != 0 && keys[slot] != value) {
+          slot = slot + 1 & capacity - 1;
+        }
+        if (firstIndices[slot] == 0) {
+          keys[slot] = value;
+          firstIndices[slot] = i + 1;
+        } else if (count++ < limit) {
+          duplicates.add(new Duplicate(value, firstIndices[slot] - 1, i));
+        }
+      }
+      return count;
+    }
+
+    /**
+     * A repeated key, with the indices of its first and repeated occurrence.
+     */
+    private static final class Duplicate {
+
+      private final Object key;
+      private final int firstIndex;
+      private final int index;
+
+      private Duplicate(final Object key, final int firstIndex, final int index) {
+        this.key = key;
+        this.firstIndex = firstIndex;
+        this.index = index;
+      }
+
+      @Override
+      public String toString() {
+        return key + " at indices[" + firstIndex + ", " + index + "]";
+      }
+    }
+
+    /**
+     * Traverses the graph from each of <var>roots</var> in turn, depth first, keeping the current
+     * path and an iterator over the unvisited successors of each of its nodes on explicit stacks
+     * rather than the call stack. Each node is entered once, and each edge followed once, so the
+     * traversal is linear in the size of the graph reachable from <var>roots</var>.
+     *
+     * @param successors The function returning the successors of a node, or null if it has none.
+     * @return The nodes of the first cycle found, starting and ending with the same node, or null
+     * if the graph is acyclic.
+     */
+    private static <K> List<K> cycle(final Iterable<? extends K> roots,
+        final Function<? super K, ? extends Iterable<? extends K>> successors) {
+      // The depth of each node on the current path, or finished once all its successors are.
+      final Map<K, Integer> depths = new HashMap<>();
+      final List<K> path = new ArrayList<>();
+      final List<Iterator<? extends K>> unvisited = new ArrayList<>();
+      for (final K root : roots) {
+        if (depths.putIfAbsent(root, 0) != null) {
+          continue;
+        }
+        path.add(root);
+        unvisited.add(successors(root, successors));
+        while (!path.isEmpty()) {
+          final int depth = path.size() - 1;
+          final Iterator<? extends K> next = unvisited.get(depth);
+          if (!next.hasNext()) {
+            depths.put(path.remove(depth), finished);
+            unvisited.remove(depth);
+            continue;
+          }
+          final K node = next.next();
+          final Integer nodeDepth = depths.putIfAbsent(node, depth + 1);
+          if (nodeDepth == null) {
+            path.add(node);
+            unvisited.add(successors(node, successors));
+          } else if (nodeDepth != finished) {
+            final List<K> cycle = new ArrayList<>(path.subList(nodeDepth, depth + 1));
+            cycle.add(node);
+            return cycle;
+          }
+        }
+      }
+      return null;
+    }
+
+    private static <K> Iterator<? extends K> successors(final K node,
+        final Function<? super K, ? extends Iterable<? extends K>> successors) {
+      final Iterable<? extends K> nodes = successors.apply(node);
+      return nodes == null ? java.util.Collections.emptyIterator() : nodes.iterator();
+    }
+
     private static <T> boolean matchesAllValues(final Collection<T> actual,
         final Predicate<T> matcher) {
       if (isEmpty.test(actual)) {
@@ -1019,23 +4334,114 @@ public class Verifier {
     }
   }
 
+  private static class Dates {
+
+    private static final String formatAfter = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] > Now[{3}].";
+    private static final String formatBefore = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] < Now[{3}].";
+    private static final String formatNotWithinWindow = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] ∉ Now[{3}] ± ε[{4}].";
+    private static final String formatWithinWindow = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] ∈ Now[{3}] ± ε[{4}].";
+
+    private static boolean isAfter(final long actualSeconds, final int actualNanos,
+        final long nowMillis) {
+      final long nowSeconds = Math.floorDiv(nowMillis, 1000L);
+      return actualSeconds > nowSeconds || actualSeconds == nowSeconds
+          && actualNanos > Math.floorMod(nowMillis, 1000L) * 1_000_000L;
+    }
+
+    private static boolean isBefore(final long actualSeconds, final int actualNanos,
+        final long nowMillis) {
+      final long nowSeconds = Math.floorDiv(nowMillis, 1000L);
+      return actualSeconds < nowSeconds || actualSeconds == nowSeconds
+          && actualNanos < Math.floorMod(nowMillis, 1000L) * 1_000_000L;
+    }
+
+    private static boolean isWithinWindow(final Instant actual, final long nowMillis,
+        final Duration window) {
+      requireNonNegative(window);
+      if (actual == null) {
+        return false;
+      }
+      return isWithinWindow(actual.getEpochSecond(), actual.getNano(), nowMillis, window);
+    }
+
+    private static boolean isWithinWindow(final long actualMillis, final long nowMillis,
+        final Duration window) {
+      requireNonNegative(window);
+      return isWithinWindow(Math.floorDiv(actualMillis, 1000L),
+          (int) (Math.floorMod(actualMillis, 1000L) * 1_000_000L), nowMillis, window);
+    }
+
+    /**
+     * Compares in epoch seconds plus nanoseconds, so that a window of any length, e.g. {@link
+     * java.time.temporal.ChronoUnit#FOREVER}, is compared exactly rather than converted to
+     * milliseconds.
+     */
+    private static boolean isWithinWindow(final long actualSeconds, final int actualNanos,
+        final long nowMillis, final Duration window) {
+      return Equality.isEqualEpochWithTolerance(actualSeconds, actualNanos,
+          Math.floorDiv(nowMillis, 1000L), (int) (Math.floorMod(nowMillis, 1000L) * 1_000_000L),
+          window);
+    }
+
+    private static void requireNonNegative(final Duration window) {
+      if (window.isNegative()) {
+        throw new IllegalArgumentException("Window[" + window + "] cannot be negative.");
+      }
+    }
+  }
+
   private static class Equality {
 
     private static final String formatEqual = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Actual[{2}] ≡ Expected[{3}].";
+    private static final String formatEqualIgnoringOrder = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] ≡ Expected[{3}] ignoring order.";
     private static final String formatEqualString = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Actual[\"{2}\"] ≡ Expected[\"{3}\"].";
     private static final String formatEqualDateWithTolerance = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Actual[{2}] ± ε[{4} s] ≡ Expected[{3}].";
+    private static final String formatEqualDateWithDuration = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] ± ε[{4}] ≡ Expected[{3}].";
+    private static final String formatEqualEpochWithTolerance = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2,number,#}] ± ε[{4,number,#} {5}] ≡ Expected[{3,number,#}].";
     private static final String formatEqualWithError = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Actual[{2}] ± ε[{4}] ≡ Expected[{3}].";
+    private static final String formatEqualWithTolerance = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] ± {4} ≡ Expected[{3}].";
     private static final String formatNotEqual = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Actual[{2}] ≠ Expected[{3}].";
+    private static final String formatNotEqualArray = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] ≠ Expected[{3}] at index[{4,number,#}], where Actual[{5}] ≠"
+        + " Expected[{6}].";
+    private static final String formatNotEqualCollection = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] ≠ Expected[{3}], with Missing{4}, Unexpected{5} and Miscounted{6}.";
+    private static final String formatNotEqualIgnoringOrderCollection =
+        Verifier.formatAssertionFailedField
+            + Verifier.tabSpacer
+            + "Actual[{2}] ≠ Expected[{3}] ignoring order, with Missing{4}, Unexpected{5} and"
+            + " Miscounted{6}.";
+    private static final String formatNotEqualIgnoringOrder = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] ≠ Expected[{3}] ignoring order.";
     private static final String formatNotEqualString = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Actual[\"{2}\"] ≠ Expected[\"{3}\"].";
@@ -1043,28 +4449,271 @@ public class Verifier {
         Verifier.formatAssertionFailedField
             + Verifier.tabSpacer
             + "Actual[{2}] ± ε[{4} s] ≠ Expected[{3}].";
+    private static final String formatNotEqualDateWithDuration =
+        Verifier.formatAssertionFailedField
+            + Verifier.tabSpacer
+            + "Actual[{2}] ± ε[{4}] ≠ Expected[{3}].";
+    private static final String formatNotEqualEpochWithTolerance =
+        Verifier.formatAssertionFailedField
+            + Verifier.tabSpacer
+            + "Actual[{2,number,#}] ± ε[{4,number,#} {5}] ≠ Expected[{3,number,#}].";
     private static final String formatNotEqualWithError = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Actual[{2}] ± ε[{4}] ≠ Expected[{3}].";
+    private static final String formatNotEqualWithTolerance = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Actual[{2}] ± {4} ≠ Expected[{3}].";
+    private static final String formatNotEqualArrayWithTolerance =
+        Verifier.formatAssertionFailedField
+            + Verifier.tabSpacer
+            + "Actual[{2}] ± {4} ≠ Expected[{3}] at [{5,number,#}] elements, worst at"
+            + " index[{6,number,#}], where Actual[{7}] ≠ Expected[{8}].";
+    private static final int withinTolerance = -1;
+    private static final int lengthMismatch = -2;
+
+    private static <T> boolean isEqualCollection(final Collection<T> actual,
+        final Collection<T> expected) {
+      if (expected == null) {
+        return actual == null;
+      }
+      return expected.equals(actual);
+    }
+
+    /**
+     * Counts the elements of <var>actual</var> up and those of <var>expected</var> back down in a
+     * single hash map, returning as soon as the sizes differ or an element of <var>expected</var>
+     * runs out, so equal multisets take O(n) and unequal ones usually less.
+     */
+    private static boolean isEqualIgnoringOrder(final Collection<?> actual,
+        final Collection<?> expected) {
+      if (actual == null || expected == null) {
+        return actual == expected;
+      } else if (actual.size() != expected.size()) {
+        return false;
+      } else if (actual instanceof Set && expected instanceof Set) {
+        return actual.equals(expected);
+      }
+      final Map<Object, Integer> counts = new HashMap<>(Math.max(16, actual.size() * 4 / 3 + 1));
+      for (final Object value : actual) {
+        counts.merge(value, 1, Integer::sum);
+      }
+      for (final Object value : expected) {
+        final Integer count = counts.get(value);
+        if (count == null) {
+          return false;
+        } else if (count == 1) {
+          counts.remove(value);
+        } else {
+          counts.put(value, count - 1);
+        }
+      }
+      return true;
+    }
+
+    private static boolean isEqualIgnoringOrder(final int[] actual, final int[] expected) {
+      if (actual == null || expected == null) {
+        return actual == expected;
+      } else if (actual.length != expected.length) {
+        return false;
+      }
+      final LongMultiset counts = new LongMultiset(actual.length);
+      for (final int value : actual) {
+        counts.add(value);
+      }
+      for (final int value : expected) {
+        if (!counts.remove(value)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean isEqualIgnoringOrder(final long[] actual, final long[] expected) {
+      if (actual == null || expected == null) {
+        return actual == expected;
+      } else if (actual.length != expected.length) {
+        return false;
+      }
+      final LongMultiset counts = new LongMultiset(actual.length);
+      for (final long value : actual) {
+        counts.add(value);
+      }
+      for (final long value : expected) {
+        if (!counts.remove(value)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * An open addressing hash table of {@code long} values and their counts, which neither boxes
+     * nor allocates per element. Removed values keep their slot with a count of zero, so probe
+     * sequences are never broken.
+     */
+    private static final class LongMultiset {
+
+      private final long[] keys;
+      private final int[] counts;
+      private final boolean[] used;
+      private final int shift;
+
+      private LongMultiset(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        keys = new long[capacity];
+        counts = new int[capacity];
+        used = new boolean[capacity];
+        shift = Long.numberOfLeadingZeros(capacity - 1);
+      }
+
+      private int slot(final long value) {
+        int slot = (int) (value * 0x9E3779B97F4A7C15L >>> shift);
+        while (used[slot] && keys[slot] != value) {
+          slot = slot + 1 & keys.length - 1;
+        }
+        return slot;
+      }
+
+      private void add(final long value) {
+        final int slot = slot(value);
+        used[slot] = true;
+        keys[slot] = value;
+        counts[slot]++;
+      }
+
+      /**
+       * @return True if <var>value</var> was counted and has been counted down once.
+       */
+      private boolean remove(final long value) {
+        final int slot = slot(value);
+        if (counts[slot] == 0) {
+          return false;
+        }
+        counts[slot]--;
+        return true;
+      }
+    }
+
+    private static boolean isEqualDateWithTolerance(final LocalDateTime actual,
+        final LocalDateTime expected, final long tolerance) {
+      if (expected == null) {
+        return actual == null;
+      } else if (actual == null) {
+        return false;
+      }
+      return Math.abs(expected.toEpochSecond(ZoneOffset.UTC) - actual.toEpochSecond(ZoneOffset.UTC))
+          <= tolerance;
+    }
+
+    private static boolean isEqualDateWithTolerance(final LocalDateTime actual,
+        final LocalDateTime expected, final Duration tolerance) {
+      if (expected == null) {
+        return actual == null;
+      } else if (actual == null) {
+        return false;
+      }
+      return isEqualEpochWithTolerance(actual.toEpochSecond(ZoneOffset.UTC), actual.getNano(),
+          expected.toEpochSecond(ZoneOffset.UTC), expected.getNano(), tolerance);
+    }
 
-    private static <T> boolean isEqualCollection(final Collection<T> actual,
-        final Collection<T> expected) {
+    private static boolean isEqualDateWithTolerance(final OffsetDateTime actual,
+        final OffsetDateTime expected, final Duration tolerance) {
       if (expected == null) {
         return actual == null;
+      } else if (actual == null) {
+        return false;
       }
-      return expected.equals(actual);
+      return isEqualEpochWithTolerance(actual.toEpochSecond(), actual.getNano(),
+          expected.toEpochSecond(), expected.getNano(), tolerance);
     }
 
-    private static boolean isEqualDateWithTolerance(final LocalDateTime actual,
-        final LocalDateTime expected, final long tolerance) {
+    private static boolean isEqualDateWithTolerance(final ZonedDateTime actual,
+        final ZonedDateTime expected, final Duration tolerance) {
       if (expected == null) {
         return actual == null;
       } else if (actual == null) {
         return false;
       }
-      final ZoneOffset utcOffset = ZoneOffset.of("Z");
-      return Math.abs(expected.toEpochSecond(utcOffset) - actual.toEpochSecond(utcOffset))
-          <= tolerance;
+      return isEqualEpochWithTolerance(actual.toEpochSecond(), actual.getNano(),
+          expected.toEpochSecond(), expected.getNano(), tolerance);
+    }
+
+    private static boolean isEqualDateWithTolerance(final Instant actual, final Instant expected,
+        final Duration tolerance) {
+      if (expected == null) {
+        return actual == null;
+      } else if (actual == null) {
+        return false;
+      }
+      return isEqualEpochWithTolerance(actual.getEpochSecond(), actual.getNano(),
+          expected.getEpochSecond(), expected.getNano(), tolerance);
+    }
+
+    private static long requireNonNegative(final long tolerance) {
+      if (tolerance < 0) {
+        throw new IllegalArgumentException("Tolerance[" + tolerance + "] cannot be negative.");
+      }
+      return tolerance;
+    }
+
+    private static Duration requireNonNegative(final Duration tolerance) {
+      if (tolerance.isNegative()) {
+        throw new IllegalArgumentException("Tolerance[" + tolerance + "] cannot be negative.");
+      }
+      return tolerance;
+    }
+
+    /**
+     * Compares two points in time, each given as epoch seconds plus a nanosecond adjustment,
+     * without allocating. Epoch seconds of any {@link java.time.temporal.Temporal} are far from the
+     * {@code long} limits, so their difference cannot overflow.
+     */
+    private static boolean isEqualEpochWithTolerance(final long actualSeconds,
+        final int actualNanos, final long expectedSeconds, final int expectedNanos,
+        final Duration tolerance) {
+      long seconds = actualSeconds - expectedSeconds;
+      long nanos = actualNanos - expectedNanos;
+      if (seconds < 0 || seconds == 0 && nanos < 0) {
+        seconds = -seconds;
+        nanos = -nanos;
+      }
+      if (nanos < 0) {
+        seconds--;
+        nanos += 1_000_000_000L;
+      }
+      final long toleranceSeconds = tolerance.getSeconds();
+      return seconds < toleranceSeconds
+          || seconds == toleranceSeconds && nanos <= tolerance.getNano();
+    }
+
+    /**
+     * Compares two epoch timestamps of the same unit. The distance between any two {@code long}
+     * values fits in an unsigned {@code long}, so it is compared unsigned rather than risking an
+     * overflow of {@code actual - expected}.
+     */
+    private static boolean isEqualEpochWithTolerance(final long actual, final long expected,
+        final long tolerance) {
+      final long distance = actual >= expected ? actual - expected : expected - actual;
+      return Long.compareUnsigned(distance, tolerance) <= 0;
+    }
+
+    private static String abbreviate(final TimeUnit unit) {
+      switch (unit) {
+        case NANOSECONDS:
+          return "ns";
+        case MICROSECONDS:
+          return "µs";
+        case MILLISECONDS:
+          return "ms";
+        case SECONDS:
+          return "s";
+        case MINUTES:
+          return "min";
+        case HOURS:
+          return "h";
+        default:
+          return "d";
+      }
     }
 
     private static boolean isEqualDateWithTolerance(final Instant actual, final Instant expected,
@@ -1084,18 +4733,242 @@ public class Verifier {
       return expected.equals(actual);
     }
 
-    private static boolean isEqualString(final String actual, final String expected,
+    /**
+     * The number of elements from the first mismatch rendered from each side.
+     */
+    private static final int mismatchWindow = 8;
+
+    /**
+     * Equal arrays are confirmed by {@link Arrays#equals}, which the JIT compiles to a vectorized
+     * comparison, so the element by element search only runs once the arrays are known to differ.
+     * Floating point elements are compared by their bits, the same as {@link Arrays#equals}, so NaN
+     * equals NaN and 0.0 does not equal -0.0.
+     *
+     * @param equal Whether the arrays are equal, or both null.
+     * @param differs Whether the elements at an index differ.
+     * @return The index of the first element that differs between the arrays, the shorter length if
+     * one is a prefix of the other, 0 if exactly one is null, or -1 if they are equal.
+     */
+    private static int mismatch(final Object actual, final Object expected, final boolean equal,
+        final IntPredicate differs) {
+      if (equal) {
+        return -1;
+      } else if (actual == null || expected == null) {
+        return 0;
+      }
+      final int length = Math.min(Array.getLength(actual), Array.getLength(expected));
+      for (int i = 0; i < length; i++) {
+        if (differs.test(i)) {
+          return i;
+        }
+      }
+      return length;
+    }
+
+    private static int mismatch(final boolean[] actual, final boolean[] expected) {
+      return mismatch(actual, expected, Arrays.equals(actual, expected),
+          i -> actual[i] != expected[i]);
+    }
+
+    private static int mismatch(final byte[] actual, final byte[] expected) {
+      return mismatch(actual, expected, Arrays.equals(actual, expected),
+          i -> actual[i] != expected[i]);
+    }
+
+    private static int mismatch(final char[] actual, final char[] expected) {
+      return mismatch(actual, expected, Arrays.equals(actual, expected),
+          i -> actual[i] != expected[i]);
+    }
+
+    private static int mismatch(final short[] actual, final short[] expected) {
+      return mismatch(actual, expected, Arrays.equals(actual, expected),
+          i -> actual[i] != expected[i]);
+    }
+
+    private static int mismatch(final int[] actual, final int[] expected) {
+      return mismatch(actual, expected, Arrays.equals(actual, expected),
+          i -> actual[i] != expected[i]);
+    }
+
+    private static int mismatch(final long[] actual, final long[] expected) {
+      return mismatch(actual, expected, Arrays.equals(actual, expected),
+          i -> actual[i] != expected[i]);
+    }
+
+    private static int mismatch(final float[] actual, final float[] expected) {
+      return mismatch(actual, expected, Arrays.equals(actual, expected),
+          i -> Float.floatToIntBits(actual[i]) != Float.floatToIntBits(expected[i]));
+    }
+
+    private static int mismatch(final double[] actual, final double[] expected) {
+      return mismatch(actual, expected, Arrays.equals(actual, expected),
+          i -> Double.doubleToLongBits(actual[i]) != Double.doubleToLongBits(expected[i]));
+    }
+
+    private static int mismatch(final Object[] actual, final Object[] expected) {
+      return mismatch(actual, expected, Arrays.equals(actual, expected),
+          i -> !Objects.equals(actual[i], expected[i]));
+    }
+
+    /**
+     * Compares 8 bytes at a time while both buffers have them left, then the remainder byte by
+     * byte.
+     */
+    private static int mismatch(final ByteBuffer actual, final ByteBuffer expected) {
+      if (actual == expected) {
+        return -1;
+      } else if (actual == null || expected == null) {
+        return 0;
+      }
+      final int length = Math.min(actual.remaining(), expected.remaining());
+      int i = 0;
+      for (; i <= length - Long.BYTES; i += Long.BYTES) {
+        if (actual.getLong(actual.position() + i) != expected.getLong(expected.position() + i)) {
+          break;
+        }
+      }
+      for (; i < length; i++) {
+        if (actual.get(actual.position() + i) != expected.get(expected.position() + i)) {
+          return i;
+        }
+      }
+      return actual.remaining() == expected.remaining() ? -1 : length;
+    }
+
+    /**
+     * @return A copy of at most {@link #mismatchWindow} elements of the array or {@link ByteBuffer}
+     * <var>container</var> from index <var>from</var>, or null if <var>container</var> is.
+     */
+    private static Object window(final Object container, final int from) {
+      if (container instanceof ByteBuffer) {
+        final ByteBuffer buffer = (ByteBuffer) container;
+        final byte[] window = new byte[Math.max(0,
+            Math.min(mismatchWindow, buffer.remaining() - from))];
+        for (int i = 0; i < window.length; i++) {
+          window[i] = buffer.get(buffer.position() + from + i);
+        }
+        return window;
+      } else if (container == null) {
+        return null;
+      }
+      final int length = Math.max(0, Math.min(mismatchWindow, Array.getLength(container) - from));
+      final Object window = Array.newInstance(container.getClass().getComponentType(), length);
+      System.arraycopy(container, from, window, 0, length);
+      return window;
+    }
+
+    private static boolean isEqualString(final CharSequence actual, final CharSequence expected,
+        final boolean caseSensitive) {
+      if (expected == null) {
+        return actual == null;
+      } else if (actual == null) {
+        return false;
+      } else if (expected instanceof String && actual instanceof String) {
+        return caseSensitive ? expected.equals(actual)
+            : ((String) expected).equalsIgnoreCase((String) actual);
+      } else if (expected.length() != actual.length()) {
+        return false;
+      }
+      for (int i = 0; i < expected.length(); i++) {
+        final char actualChar = actual.charAt(i);
+        final char expectedChar = expected.charAt(i);
+        if (actualChar != expectedChar
+            && (caseSensitive || !Utf8.isEqualIgnoringCase(actualChar, expectedChar))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean isEqualString(final ByteBuffer actual, final CharSequence expected,
         final boolean caseSensitive) {
       if (expected == null) {
         return actual == null;
+      } else if (actual == null) {
+        return false;
       }
-      return caseSensitive ? expected.equals(actual) : expected.equalsIgnoreCase(actual);
+      return Utf8.isEqual(actual, expected, caseSensitive);
     }
 
     private static boolean isEqualWithError(final double actual, final double expected,
         final double epsilon) {
       return Math.abs(expected - actual) <= epsilon;
     }
+
+    /**
+     * @return The index of the element of <var>actual</var> furthest out of <var>tolerance</var> of
+     * <var>expected</var>, {@link #withinTolerance} if every element is within it, or {@link
+     * #lengthMismatch} if the arrays' lengths differ.
+     */
+    private static int worstIndex(final double[] actual, final double[] expected,
+        final Tolerance tolerance) {
+      if (actual == null || expected == null) {
+        return actual == expected ? withinTolerance : lengthMismatch;
+      } else if (actual.length != expected.length) {
+        return lengthMismatch;
+      }
+      int worst = withinTolerance;
+      double worstExcess = 1;
+      for (int i = 0; i < actual.length; i++) {
+        final double excess = tolerance.excess(actual[i], expected[i]);
+        if (excess > worstExcess) {
+          worst = i;
+          worstExcess = excess;
+        }
+      }
+      return worst;
+    }
+
+    /**
+     * @see #worstIndex(double[], double[], Tolerance)
+     */
+    private static int worstIndex(final float[] actual, final float[] expected,
+        final Tolerance tolerance) {
+      if (actual == null || expected == null) {
+        return actual == expected ? withinTolerance : lengthMismatch;
+      } else if (actual.length != expected.length) {
+        return lengthMismatch;
+      }
+      int worst = withinTolerance;
+      double worstExcess = 1;
+      for (int i = 0; i < actual.length; i++) {
+        final double excess = tolerance.excess(actual[i], expected[i]);
+        if (excess > worstExcess) {
+          worst = i;
+          worstExcess = excess;
+        }
+      }
+      return worst;
+    }
+
+    /**
+     * @param actual The {@code double[]} or {@code float[]} to compare. (Cannot be null)
+     * @param expected The array of the same type and length to compare against. (Cannot be null)
+     * @return The number of elements of <var>actual</var> out of <var>tolerance</var> of
+     * <var>expected</var>.
+     */
+    private static int countOutside(final Object actual, final Object expected,
+        final Tolerance tolerance) {
+      int count = 0;
+      if (actual instanceof double[]) {
+        final double[] actualArray = (double[]) actual;
+        final double[] expectedArray = (double[]) expected;
+        for (int i = 0; i < actualArray.length; i++) {
+          if (!tolerance.isWithin(actualArray[i], expectedArray[i])) {
+            count++;
+          }
+        }
+      } else {
+        final float[] actualArray = (float[]) actual;
+        final float[] expectedArray = (float[]) expected;
+        for (int i = 0; i < actualArray.length; i++) {
+          if (!tolerance.isWithin(actualArray[i], expectedArray[i])) {
+            count++;
+          }
+        }
+      }
+      return count;
+    }
   }
 
   private static class Inequality {
@@ -1192,6 +5065,140 @@ public class Verifier {
     }
   }
 
+  /**
+   * Bulk checks over primitive arrays. Each count is a plain counted loop over the whole array,
+   * without early exits or boxing, which the JIT can unroll and vectorize; the offending indices
+   * are only collected, in a second pass, once a check has failed.
+   */
+  private static class PrimitiveArrays {
+
+    private static final String formatAnyNegative = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected [{3,number,#}] elements of array[{2}] to be negative at indices{4}.";
+    private static final String formatAnyNotBelow = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected [{3,number,#}] elements of array[{2}] to be ≥ Bound[{5}] at indices{4}.";
+    private static final String formatAnyNotFinite = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected [{3,number,#}] elements of array[{2}] to be NaN or infinite at indices{4}.";
+    private static final String formatAnyOutsideRange = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected [{3,number,#}] elements of array[{2}] to be outside range[{5}, {6}] at"
+        + " indices{4}.";
+    private static final String formatOutsideStatisticalBounds = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected array[{2}] with statistics[{3}] to be outside bounds{4}.";
+    private static final String formatOutsideStatisticalBoundsStream =
+        Verifier.formatAssertionFailedField
+            + Verifier.tabSpacer
+            + "Expected stream with statistics[{2}] to be outside bounds{3}.";
+
+    private static int countNegative(final int[] actual) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        count += actual[i] >>> 31;
+      }
+      return count;
+    }
+
+    private static int countNegative(final long[] actual) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        count += (int) (actual[i] >>> 63);
+      }
+      return count;
+    }
+
+    private static int countNegative(final double[] actual) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        count += actual[i] < 0 ? 1 : 0;
+      }
+      return count;
+    }
+
+    private static int countNotBelow(final int[] actual, final int bound) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        count += actual[i] >= bound ? 1 : 0;
+      }
+      return count;
+    }
+
+    private static int countNotBelow(final long[] actual, final long bound) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        count += actual[i] >= bound ? 1 : 0;
+      }
+      return count;
+    }
+
+    /**
+     * NaN is never below the bound.
+     */
+    private static int countNotBelow(final double[] actual, final double bound) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        count += actual[i] < bound ? 0 : 1;
+      }
+      return count;
+    }
+
+    private static int countNotFinite(final double[] actual) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        // Only NaN and the infinities leave a non-finite result after subtracting themselves.
+        final double difference = actual[i] - actual[i];
+        count += difference == difference ? 0 : 1;
+      }
+      return count;
+    }
+
+    private static int countOutsideRange(final int[] actual, final int lowerBound,
+        final int upperBound) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        count += actual[i] < lowerBound | actual[i] > upperBound ? 1 : 0;
+      }
+      return count;
+    }
+
+    private static int countOutsideRange(final long[] actual, final long lowerBound,
+        final long upperBound) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        count += actual[i] < lowerBound | actual[i] > upperBound ? 1 : 0;
+      }
+      return count;
+    }
+
+    /**
+     * NaN is never within the range.
+     */
+    private static int countOutsideRange(final double[] actual, final double lowerBound,
+        final double upperBound) {
+      int count = 0;
+      for (int i = 0; i < actual.length; i++) {
+        count += actual[i] >= lowerBound & actual[i] <= upperBound ? 0 : 1;
+      }
+      return count;
+    }
+
+    /**
+     * @return The first <var>limit</var> indices below <var>length</var> that are
+     * <var>offending</var>.
+     */
+    private static int[] indices(final int limit, final int length, final IntPredicate offending) {
+      final List<Integer> indices = new ArrayList<>();
+      for (int i = 0; i < length && indices.size() < limit; i++) {
+        if (offending.test(i)) {
+          indices.add(i);
+        }
+      }
+      return Ints.toArray(indices);
+    }
+  }
+
   private static class Ranges {
 
     private static final String formatInsideRange = Verifier.formatAssertionFailedField
@@ -1234,6 +5241,202 @@ public class Verifier {
     private static final String formatOutsideRange_Inclusive = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Actual[{1}] ≤ Lower Bound[{2}] ‖ Actual[{1}] ≥ Upper Bound[{3}]";
+    private static final String formatOverlapping = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected [{3,number,#}] intervals of [{2}] to overlap an interval starting before"
+        + " them, first at index pairs{4}.";
+
+    /**
+     * Sweeps the <var>length</var> intervals, identified by index, in order of their starts while
+     * tracking the interval with the greatest end so far. An interval overlaps an earlier one if
+     * and only if it starts before that greatest end, so each overlapping interval is found in
+     * O(1), paired with the interval that ends last.
+     *
+     * @param compareStarts Compares the starts of two intervals.
+     * @param compareStartToEnd Compares the start of one interval with the end of another.
+     * @param compareEnds Compares the ends of two intervals.
+     * @param limit The maximum number of index pairs to add to <var>pairs</var>.
+     * @return The number of intervals overlapping an interval that starts before them, the first
+     * <var>limit</var> of which are added to <var>pairs</var> with the index of that interval.
+     */
+    private static int overlaps(final int length, final IntBinaryOperator compareStarts,
+        final IntBinaryOperator compareStartToEnd, final IntBinaryOperator compareEnds,
+        final int limit, final List<List<Integer>> pairs) {
+      final int[] order = sortedIndices(length, compareStarts);
+      int count = 0;
+      int lastEnding = length > 0 ? order[0] : -1;
+      for (int k = 1; k < length; k++) {
+        final int interval = order[k];
+        if (compareStartToEnd.applyAsInt(interval, lastEnding) < 0 && count++ < limit) {
+          pairs.add(Arrays.asList(lastEnding, interval));
+        }
+        if (compareEnds.applyAsInt(interval, lastEnding) > 0) {
+          lastEnding = interval;
+        }
+      }
+      return count;
+    }
+
+    /**
+     * @return The indices of the <var>length</var> elements, stably sorted by <var>compare</var>.
+     * Already sorted elements are detected in a single O(n) pass and left in place, and others are
+     * merge sorted.
+     */
+    private static int[] sortedIndices(final int length, final IntBinaryOperator compare) {
+      final int[] indices = new int[length];
+      boolean sorted = true;
+      for (int i = 0; i < length; i++) {
+        indices[i] = i;
+        sorted &= i == 0 || compare.applyAsInt(i - 1, i) <= 0;
+      }
+      if (!sorted) {
+        mergeSort(indices, new int[length], 0, length, compare);
+      }
+      return indices;
+    }
+
+    private static void mergeSort(final int[] indices, final int[] buffer, final int from,
+        final int to, final IntBinaryOperator compare) {
+      if (to - from < 2) {
+        return;
+      }
+      final int middle = (from + to) >>> 1;
+      mergeSort(indices, buffer, from, middle, compare);
+      mergeSort(indices, buffer, middle, to, compare);
+      if (compare.applyAsInt(indices[middle - 1], indices[middle]) <= 0) {
+        return;
+      }
+      System.arraycopy(indices, from, buffer, from, to - from);
+      int left = from;
+      int right = middle;
+      for (int k = from; k < to; k++) {
+        if (right == to || left < middle
+            && compare.applyAsInt(buffer[left], buffer[right]) <= 0) {
+          indices[k] = buffer[left++];
+        } else {
+          indices[k] = buffer[right++];
+        }
+      }
+    }
+  }
+
+  private static class Sequences {
+
+    private static final String formatNotMonotonic = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected sequence[{2}] to not be monotonic, first at index[{3,number,#}] where"
+        + " Previous[{4}] and Element[{5}] reverse the order.";
+    private static final String formatNotSorted = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected sequence[{2}] to not be sorted, first at index[{3,number,#}] where"
+        + " Previous[{4}] > Element[{5}].";
+
+    private static final int parallelThreshold = 1 << 16;
+    private static final int chunkLength = 1 << 13;
+
+    /**
+     * @param compare Compares the elements at two indices, as {@link Comparator#compare} does.
+     * @return The first index of the <var>length</var> elements whose element orders before its
+     * predecessor, or -1 if they are sorted.
+     */
+    private static int firstNotSorted(final int length, final IntBinaryOperator compare) {
+      return firstInversion(length, k -> compare.applyAsInt(k - 1, k) > 0);
+    }
+
+    /**
+     * @return The first index of <var>actual</var> whose element orders before its predecessor by
+     * <var>comparator</var>, or -1 if it is sorted.
+     */
+    private static <T> int firstNotSorted(final List<T> actual,
+        final Comparator<? super T> comparator) {
+      if (actual instanceof RandomAccess) {
+        return firstNotSorted(actual.size(),
+            (k, j) -> comparator.compare(actual.get(k), actual.get(j)));
+      }
+      final Iterator<T> elements = actual.iterator();
+      T previous = elements.hasNext() ? elements.next() : null;
+      for (int k = 1; elements.hasNext(); k++) {
+        final T element = elements.next();
+        if (comparator.compare(previous, element) > 0) {
+          return k;
+        }
+        previous = element;
+      }
+      return -1;
+    }
+
+    /**
+     * A sequence is monotonic if it is sorted in either ascending or descending order, so the
+     * first index at which it is not is the later of the first inversions of each order.
+     *
+     * @param compare Compares the elements at two indices, as {@link Comparator#compare} does.
+     * @return The first index of the <var>length</var> elements at which both orders have been
+     * reversed, or -1 if they are monotonic.
+     */
+    private static int firstNotMonotonic(final int length, final IntBinaryOperator compare) {
+      final int ascending = firstNotSorted(length, compare);
+      if (ascending < 0) {
+        return -1;
+      }
+      final int descending = firstNotSorted(length, (k, j) -> compare.applyAsInt(j, k));
+      return descending < 0 ? -1 : Math.max(ascending, descending);
+    }
+
+    /**
+     * @return The first index of <var>actual</var> at which both orders by <var>comparator</var>
+     * have been reversed, or -1 if it is monotonic.
+     */
+    private static <T> int firstNotMonotonic(final List<T> actual,
+        final Comparator<? super T> comparator) {
+      final int ascending = firstNotSorted(actual, comparator);
+      if (ascending < 0) {
+        return -1;
+      }
+      final int descending = firstNotSorted(actual, comparator.reversed());
+      return descending < 0 ? -1 : Math.max(ascending, descending);
+    }
+
+    /**
+     * Tests each index from 1 against its predecessor. Long inputs are split into chunks that are
+     * tested in parallel, each chunk's first index being compared with the last index of the chunk
+     * before it so that no inversion is lost at a boundary, and the chunks' results are taken in
+     * order so that the chunks after the first inverted one are skipped.
+     *
+     * @return The first index in [1, <var>length</var>) that is <var>inverted</var>, or -1 if none
+     * is.
+     */
+    private static int firstInversion(final int length, final IntPredicate inverted) {
+      if (length < parallelThreshold) {
+        return firstInversion(1, length, inverted);
+      }
+      return IntStream.range(0, (length + chunkLength - 1) / chunkLength)
+          .parallel()
+          .map(chunk -> firstInversion(Math.max(1, chunk * chunkLength),
+              Math.min(length, (chunk + 1) * chunkLength), inverted))
+          .filter(index -> index >= 0)
+          .findFirst()
+          .orElse(-1);
+    }
+
+    private static int firstInversion(final int from, final int to, final IntPredicate inverted) {
+      for (int k = from; k < to; k++) {
+        if (inverted.test(k)) {
+          return k;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * @return The element of the array or {@link List} <var>actual</var> at <var>index</var>,
+     * primitive elements being rendered as by {@link String#valueOf}.
+     */
+    private static Object element(final Object actual, final int index) {
+      if (actual instanceof List) {
+        return ((List<?>) actual).get(index);
+      }
+      return String.valueOf(Array.get(actual, index));
+    }
   }
 
   private static class Strings {
@@ -1241,44 +5444,157 @@ public class Verifier {
     private static final String formatBlank = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected string[\"{2}\"] to be blank, empty, or null.";
+    private static final String formatContainsAny = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] to contain any of class[{3}], first at index[{4,number,#}].";
+    private static final String formatContainsNone = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] to contain none of class[{3}].";
+    private static final String formatContainsOnly = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] to contain only class[{3}].";
     private static final String formatEmpty = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected string[\"{2}\"] to be empty, or null.";
     private static final String formatIsNotWithinMaxLength = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected string[\"{2}\"] length[{3}] to exceed length[{4}].";
+    private static final String formatIsNotWithinMaxCodePoints = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] code point length[{3,number,#}] to exceed code point"
+        + " length[{4,number,#}].";
+    private static final String formatIsNotWithinMaxUtf8Bytes = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] UTF-8 length[{3,number,#}] to exceed bytes[{4,number,#}].";
     private static final String formatIsWithinMaxLength = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected string[\"{2}\"] length[{3}] to be within length[{4}].";
     private static final String formatMatches = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected string[\"{2}\"] to match pattern[\"{3}\"].";
+    private static final String formatMatchesAnyPattern = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] to match pattern[\"{3}\"] at index[{4,number,#}].";
+    private static final String formatMatchesNoPattern = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] to match none of [{3,number,#}] patterns.";
     private static final String formatNotBlank = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected string to not be blank, empty, or null.";
+    private static final String formatNotContainsOnly = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] to not contain only class[{3}], first outside at"
+        + " index[{4,number,#}].";
     private static final String formatNotEmpty = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected string to not be empty, or null.";
     private static final String formatNotMatches = Verifier.formatAssertionFailedField
         + Verifier.tabSpacer
         + "Expected string[\"{2}\"] to not match pattern[\"{3}\"].";
+    private static final String formatStartsWithAny = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] to start with prefix[\"{3}\"].";
+    private static final String formatStartsWithNone = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] to start with none of [{3,number,#}] prefixes.";
+    private static final String formatViolates = Verifier.formatAssertionFailedField
+        + Verifier.tabSpacer
+        + "Expected string[\"{2}\"] to violate rule[{3}], with violations{4}.";
 
-    private static final Predicate<String> isEmpty = actual -> actual == null || actual.isEmpty();
-    private static final BiPredicate<String, Integer> isWithinMaxLength = (actual, maxLength) -> {
+    private static final Predicate<CharSequence> isEmpty = actual -> actual == null
+        || actual.length() == 0;
+    private static final BiPredicate<CharSequence, Integer> isWithinMaxLength = (actual,
+        maxLength) -> {
       if (actual == null) {
         return true;
       }
       return actual.length() <= maxLength;
     };
-    private static final BiPredicate<String, String> matches = (actual, pattern) -> {
+    private static final BiPredicate<CharSequence, Integer> isWithinMaxCodePoints = (actual,
+        maxCodePoints) -> {
+      if (actual == null) {
+        return true;
+      }
+      // Every code point is one or two chars, so only inputs in between need a scan.
+      return actual.length() <= maxCodePoints || actual.length() <= 2L * maxCodePoints
+          && codePointCount(actual, maxCodePoints) <= maxCodePoints;
+    };
+    private static final BiPredicate<CharSequence, Integer> isWithinMaxUtf8Bytes = (actual,
+        maxBytes) -> {
+      if (actual == null) {
+        return true;
+      }
+      // Every char encodes to between one and three bytes, so only inputs in between need a scan.
+      return actual.length() <= maxBytes && (actual.length() <= maxBytes / 3
+          || Utf8.encodedLength(actual, maxBytes) <= maxBytes);
+    };
+    private static final BiPredicate<CharSequence, String> matches = (actual, pattern) -> {
+      if (actual == null) {
+        return false;
+      }
+      return Pattern.compile(pattern).matcher(actual).matches();
+    };
+
+    private static final Predicate<CharSequence> isBlank = actual -> {
+      if (actual == null) {
+        return true;
+      }
+      for (int i = 0; i < actual.length(); i++) {
+        if (!Utf8.isWhitespace(actual.charAt(i))) {
+          return false;
+        }
+      }
+      return true;
+    };
+
+    private static final Predicate<ByteBuffer> isEmptyUtf8 = actual -> actual == null
+        || !actual.hasRemaining();
+    private static final Predicate<ByteBuffer> isBlankUtf8 = actual -> actual == null
+        || Utf8.isBlank(actual);
+    private static final BiPredicate<ByteBuffer, Integer> isWithinMaxLengthUtf8 = (actual,
+        maxLength) -> {
+      if (actual == null) {
+        return true;
+      }
+      // No UTF-8 sequence decodes to more chars than it has bytes, so short inputs need no scan.
+      return actual.remaining() <= maxLength || Utf8.length(actual) <= maxLength;
+    };
+    private static final BiPredicate<ByteBuffer, String> matchesUtf8 = (actual, pattern) -> {
       if (actual == null) {
         return false;
       }
-      return actual.matches(pattern);
+      // Regular expressions read their input out of order, which the lazily decoding view only
+      // supports in constant time for ASCII input.
+      final CharSequence chars = Utf8.isAscii(actual) ? Utf8.asCharSequence(actual)
+          : StandardCharsets.UTF_8.decode(actual.duplicate());
+      return Pattern.compile(pattern).matcher(chars).matches();
     };
+    private static final BiPredicate<CharSequence, LinearPattern> matchesLinear = (actual,
+        pattern) -> actual != null && pattern.matches(actual);
+    private static final BiPredicate<ByteBuffer, LinearPattern> matchesLinearUtf8 = (actual,
+        pattern) -> actual != null && pattern.matches(actual);
+
+    /**
+     * Counts the code points of <var>actual</var> the way {@link Character#codePointCount} does,
+     * but stops as soon as the count exceeds <var>limit</var>.
+     *
+     * @return The number of code points of <var>actual</var>, or a count above <var>limit</var>
+     * once it is exceeded.
+     */
+    private static int codePointCount(final CharSequence actual, final int limit) {
+      final int length = actual.length();
+      int count = 0;
+      for (int i = 0; i < length && count <= limit; i++, count++) {
+        if (Character.isHighSurrogate(actual.charAt(i)) && i + 1 < length
+            && Character.isLowSurrogate(actual.charAt(i + 1))) {
+          i++;
+        }
+      }
+      return count;
+    }
 
-    private static final Pattern patternBlank = Pattern.compile("^\\s*$", Pattern.DOTALL);
-    private static final Predicate<String> isBlank = actual -> actual == null || patternBlank
-        .matcher(actual).matches();
+    private static CharSequence render(final ByteBuffer actual) {
+      return actual != null ? Utf8.asCharSequence(actual) : null;
+    }
   }
 }
\ No newline at end of file
@@ -0,0 +1,283 @@
+package eli.veritas;
+
+import eli.veritas.exception.CompositeExceptionTester;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.DoubleStream;
+import java.util.LinkedList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies workflows through the {@link Verifier} for primitive array checks.
+ */
+public class VerifierArrayTest {
+
+  private static final long TEST_VALUE1 = 123l;
+  private static final long TEST_VALUE2 = 234l;
+
+  @Test
+  public void testFailureWithValue_ifAnyOutsideRange() {
+    final double[] prices = new double[100_000];
+    for (int i = 0; i < prices.length; i++) {
+      prices[i] = i % 100;
+    }
+    prices[500] = Double.NaN;
+    prices[70_000] = 100.5;
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 3, 8192))
+            .ifAnyOutsideRange("testField1",
+                prices,
+                0.0,
+                99.0,
+                TEST_VALUE1)
+            .ifAnyOutsideRange("testField2",
+                new int[]{1, 2, 3},
+                1,
+                3,
+                TEST_VALUE2)
+            .ifAnyOutsideRange("testField3",
+                new long[]{-1L, 5L, Long.MAX_VALUE, 9L},
+                0L,
+                10L,
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected [2] elements of array[[0.0, 1.0, 2.0, …and 99997 more]] to be outside range[0, 99] at indices[500, 70000].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected [2] elements of array[[-1, 5, 9223372036854775807, …and 1 more]] to be outside range[0, 10] at indices[0, 2]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifAnyNegative() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifAnyNegative("testField1",
+            new int[]{0, Integer.MIN_VALUE, 7, -1},
+            TEST_VALUE1)
+            .ifAnyNegative("testField2",
+                new double[]{-0.0, Double.NaN, 1.0},
+                TEST_VALUE2)
+            .ifAnyNegative("testField3",
+                new long[]{-1L},
+                TEST_VALUE2)
+            .ifAnyNegative("testField4",
+                (long[]) null,
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected [2] elements of array[[0, -2147483648, 7, -1]] to be negative at indices[1, 3].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected [1] elements of array[[-1]] to be negative at indices[0]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifAnyNotFinite() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifAnyNotFinite("testField1",
+            new double[]{Double.MAX_VALUE, Double.NEGATIVE_INFINITY, Double.NaN, 0.5},
+            TEST_VALUE1)
+            .ifAnyNotFinite("testField2",
+                new double[]{Double.MIN_VALUE, -Double.MAX_VALUE},
+                TEST_VALUE2)
+            .ifAnyNotBelow("testField3",
+                new double[]{1.0, 2.0, Double.NaN},
+                2.0,
+                TEST_VALUE2)
+            .ifAnyNotBelow("testField4",
+                new int[]{1, 2},
+                3,
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected [2] elements of array[[1.7976931348623157E308, -Infinity, NaN, 0.5]] to be NaN or infinite at indices[1, 2].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected [2] elements of array[[1.0, 2.0, NaN]] to be ≥ Bound[2] at indices[1, 2]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotEqualArray() {
+    final byte[] digest = new byte[4096];
+    for (int i = 0; i < digest.length; i++) {
+      digest[i] = (byte) i;
+    }
+    final byte[] corrupted = digest.clone();
+    corrupted[1000] = 0;
+    final ByteBuffer payload = ByteBuffer.wrap(digest, 1000, 100);
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 4, 8192))
+            .ifNotEqualArray("testField1",
+                corrupted,
+                digest,
+                TEST_VALUE1)
+            .ifNotEqualArray("testField2",
+                new double[]{1.0, Double.NaN},
+                new double[]{1.0, Double.NaN},
+                TEST_VALUE2)
+            .ifNotEqualArray("testField3",
+                new String[]{"a", "b"},
+                new String[]{"a", "b", "c"},
+                TEST_VALUE2)
+            .ifNotEqualContent("testField4",
+                (ByteBuffer) payload.duplicate().position(1002),
+                ByteBuffer.wrap(digest, 1002, 98).slice(),
+                TEST_VALUE1)
+            .ifNotEqualContent("testField5",
+                ByteBuffer.wrap(corrupted, 992, 100),
+                ByteBuffer.wrap(digest, 992, 100),
+                TEST_VALUE1)
+            .ifEqualArray("testField6",
+                new long[0],
+                new long[0],
+                TEST_VALUE2)
+            .ifEqualArray("testField7",
+                (int[]) null,
+                new int[0],
+                TEST_VALUE1)
+            .ifNotEqual("testField8",
+                null,
+                null,
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[[0, 1, 2, 3, …and 4092 more]] ≠ Expected[[0, 1, 2, 3, …and 4092 more]] at index[1000], where Actual[[0, -23, -22, -21, …and 4 more]] ≠ Expected[[-24, -23, -22, -21, …and 4 more]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tActual[[a, b]] ≠ Expected[[a, b, c]] at index[2], where Actual[[]] ≠ Expected[[c]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField5\";\tActual[java.nio.HeapByteBuffer[pos=992 lim=1092 cap=4096]] ≠ Expected[java.nio.HeapByteBuffer[pos=992 lim=1092 cap=4096]] at index[8], where Actual[[0, -23, -22, -21, …and 4 more]] ≠ Expected[[-24, -23, -22, -21, …and 4 more]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField6\";\tActual[[]] ≡ Expected[[]]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotSorted() {
+    final long[] testIds = new long[200_000];
+    for (int i = 0; i < testIds.length; i++) {
+      testIds[i] = i * 10L;
+    }
+    // An inversion exactly at a chunk boundary, and a later one that must not be reported.
+    testIds[3 * 8192] = testIds[3 * 8192 - 1] - 1;
+    testIds[150_000] = 0;
+    final Instant start = Instant.parse("2020-01-01T00:00:00Z");
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 3, 8192))
+            .ifNotSorted("testField1",
+                testIds,
+                TEST_VALUE1)
+            .ifNotSorted("testField2",
+                Arrays.asList(start, start, start.plusSeconds(2), start.plusSeconds(1)),
+                TEST_VALUE2)
+            .ifNotSorted("testField3",
+                new double[]{-0.0, 0.0, Double.NaN},
+                TEST_VALUE1)
+            .ifNotSorted("testField4",
+                Arrays.asList("c", "b", "a"),
+                Comparator.reverseOrder(),
+                TEST_VALUE2)
+            .ifNotMonotonic("testField5",
+                new int[]{5, 5, 4, 4, 1},
+                TEST_VALUE1)
+            .ifNotMonotonic("testField6",
+                new int[]{5, 5, 4, 6, 1},
+                TEST_VALUE2)
+            .ifNotMonotonic("testField7",
+                Arrays.asList(1, 2, 3, 2, 1),
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected sequence[[0, 10, 20, …and 199997 more]] to not be sorted, first at index[24576] where Previous[245750] > Element[245749].%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tExpected sequence[[2020-01-01T00:00:00Z, 2020-01-01T00:00:00Z, 2020-01-01T00:00:02Z, …and 1 more]] to not be sorted, first at index[3] where Previous[2020-01-01T00:00:02Z] > Element[2020-01-01T00:00:01Z].%n"
+            + "Assertion failed for field: \"VerifierTest#testField6\";\tExpected sequence[[5, 5, 4, …and 2 more]] to not be monotonic, first at index[3] where Previous[4] and Element[6] reverse the order.%n"
+            + "Assertion failed for field: \"VerifierTest#testField7\";\tExpected sequence[[1, 2, 3, …and 2 more]] to not be monotonic, first at index[3] where Previous[3] and Element[2] reverse the order."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifOutsideStatisticalBounds() {
+    final double[] testTelemetry = new double[200_000];
+    for (int i = 0; i < testTelemetry.length; i++) {
+      testTelemetry[i] = 1e9 + i % 10;
+    }
+    final Statistics statistics = Statistics.of(testTelemetry);
+    Assertions.assertEquals(1e9 + 4.5, statistics.getMean(), 1e-5, "Unexpected mean");
+    Assertions.assertEquals(Math.sqrt(8.25), statistics.getStandardDeviation(), 1e-6,
+        "Unexpected standard deviation");
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 2, 8192))
+            .ifOutsideStatisticalBounds("testField1",
+                testTelemetry,
+                StatisticalBounds.builder().mean(1e9, 1e9 + 4).maxStandardDeviation(3).build(),
+                TEST_VALUE1)
+            .ifOutsideStatisticalBounds("testField2",
+                new long[]{0, 0, 3, 9},
+                StatisticalBounds.builder().range(0, 5).maxZeroFraction(.25).build(),
+                TEST_VALUE2)
+            .ifOutsideStatisticalBounds("testField3",
+                DoubleStream.of(1, Double.NaN).parallel(),
+                StatisticalBounds.builder().range(0, 10).build(),
+                TEST_VALUE1)
+            .ifOutsideStatisticalBounds("testField4",
+                new double[]{1, 2, 3},
+                StatisticalBounds.builder().mean(1, 3).maxStandardDeviation(1).range(1, 3)
+                    .maxZeroFraction(0).build(),
+                TEST_VALUE2)
+            .ifOutsideStatisticalBounds("testField5",
+                new double[0],
+                StatisticalBounds.builder().mean(1, 3).build(),
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected array[[1.0E9, 1.000000001E9, …and 199998 more]] with statistics[%s] to be outside bounds[mean[%s] ∉ [1.0E9, 1.000000004E9]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tExpected array[[0, 0, …and 2 more]] with statistics[count[4], mean[3.0], standard deviation[3.6742346141747673], min[0.0], max[9.0], zeros[2]] to be outside bounds[max[9.0] > 5.0, zero fraction[0.5] > 0.25].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected stream with statistics[count[2], mean[NaN], standard deviation[NaN], min[NaN], max[NaN], zeros[0]] to be outside bounds[min[NaN] < 0.0, max[NaN] > 10.0].",
+        statistics, statistics.getMean()),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+}
@@ -1,9 +1,19 @@
 package eli.veritas;
 
 import eli.veritas.exception.CompositeExceptionTester;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +23,7 @@ import org.junit.jupiter.api.Test;
 public class VerifierCollectionTest {
 
   private static final long TEST_VALUE1 = 123l;
+  private static final long TEST_VALUE2 = 234l;
 
   @Test
   public void testFailureWithValue_ifContainsAllValues() {
@@ -420,4 +431,490 @@ public class VerifierCollectionTest {
     Verifier.<Long>forChecking(VerifierTest.class).ifNotEmpty("testField1", testCollection)
         .throwing(CompositeExceptionTester::new);
   }
+
+  @Test
+  public void testFailureWithValue_ifIn() {
+    final ValueSet<TimeUnit> units = ValueSet.of(TimeUnit.SECONDS, TimeUnit.MINUTES);
+    final List<String> banned = new LinkedList<>();
+    for (int i = 0; i < 10_000; i++) {
+      banned.add("token" + i);
+    }
+    final ValueSet<String> tokens = ValueSet.of(banned);
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifIn("testField1",
+            "token9999",
+            tokens,
+            TEST_VALUE1)
+            .ifIn("testField2",
+                "token10000",
+                tokens,
+                TEST_VALUE2)
+            .ifNotIn("testField3",
+                TimeUnit.HOURS,
+                units,
+                TEST_VALUE2)
+            .ifNotIn("testField4",
+                TimeUnit.SECONDS,
+                units,
+                TEST_VALUE1)
+            .throwing(CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected value[token9999] to be in value set of size[10000].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected value[HOURS] to not be in value set of size[2]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+    Assertions.assertFalse(units.contains(null), "Enum sets cannot contain null");
+    Assertions.assertTrue(ValueSet.of("x", null).contains(null), "Hash sets may contain null");
+  }
+
+  @Test
+  public void testFailureWithValue_ifInMapped() throws IOException {
+    final Path file = Files.createTempFile("veritas", ".idx");
+    try {
+      MappedValueSet.builder()
+          .addAll(Arrays.asList("10115", "é", "zürich", "😀", "", "10115", "1011", "\ud800"))
+          .writeTo(file);
+      try (MappedValueSet postalCodes = MappedValueSet.open(file);
+          MappedValueSet prefiltered = MappedValueSet.openWithBloomFilter(file, 0.01)) {
+        Assertions.assertEquals(7, postalCodes.size(), "Duplicates must be written once");
+        for (final MappedValueSet set : Arrays.asList(postalCodes, prefiltered)) {
+          for (final String value : Arrays.asList("10115", "é", "zürich", "😀", "", "1011", "?",
+              "\udfff")) {
+            Assertions.assertTrue(set.contains(value), value);
+          }
+          for (final String value : Arrays.asList("101150", "10", "e", "zurich", "😁", "\u00ff")) {
+            Assertions.assertFalse(set.contains(value), value);
+          }
+        }
+
+        final CompositeExceptionTester ex = Assertions.assertThrows(
+            CompositeExceptionTester.class,
+            () -> Verifier.<Long>forChecking(VerifierTest.class).ifIn("testField1",
+                new StringBuilder("zürich"),
+                postalCodes,
+                TEST_VALUE1)
+                .ifNotIn("testField2",
+                    "99999",
+                    postalCodes,
+                    TEST_VALUE2)
+                .ifNotIn("testField3",
+                    "1011",
+                    postalCodes,
+                    TEST_VALUE1)
+                .throwing(CompositeExceptionTester::new));
+
+        Assertions.assertEquals(String.format(
+            "Assertion failed for field: \"VerifierTest#testField1\";\tExpected value[zürich] to be in value set of size[7].%n"
+                + "Assertion failed for field: \"VerifierTest#testField2\";\tExpected value[99999] to not be in value set of size[7]."),
+            ex.getMessage(),
+            "Unexpected exception message");
+      }
+
+      Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+      Assertions.assertThrows(IOException.class, () -> MappedValueSet.open(file));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testIntegerSetRange() {
+    final IntegerSet ids = IntegerSet.builder()
+        .add(25_000_000L)
+        .addRange(-3_000_000, 50_000_000)
+        .add(-3_000_000L)
+        .addAll(60_000_000L, Long.MAX_VALUE)
+        .addRange(Long.MAX_VALUE - 70_000, Long.MAX_VALUE)
+        .build();
+    Assertions.assertEquals(53_000_001 + 1 + 70_001, ids.size(), "Unexpected set size");
+    for (final long value : new long[]{-3_000_000, -1, 0, 65_535, 65_536, 50_000_000, 60_000_000,
+        Long.MAX_VALUE - 70_000, Long.MAX_VALUE}) {
+      Assertions.assertTrue(ids.contains(value), "Expected member " + value);
+    }
+    for (final long value : new long[]{-3_000_001, 50_000_001, 59_999_999,
+        Long.MAX_VALUE - 70_001}) {
+      Assertions.assertFalse(ids.contains(value), "Unexpected member " + value);
+    }
+  }
+
+  @Test
+  public void testFailureWithValue_ifInInteger() {
+    final IntegerSet ports = IntegerSet.builder()
+        .addRange(1, 1023)
+        .addAll(8080L, 8443L, 70_000L, -5L, 1L << 40)
+        .addRange(100_000, 165_535)
+        .build();
+    Assertions.assertEquals(1023 + 5 + 65_536, ports.size(), "Unexpected set size");
+    for (final long value : new long[]{1, 1023, 8080, 8443, 70_000, -5, 1L << 40, 100_000,
+        165_535}) {
+      Assertions.assertTrue(ports.contains(value), "Expected member " + value);
+    }
+    for (final long value : new long[]{0, 1024, 8081, -4, 65_536, 99_999, 165_536, 1L << 41}) {
+      Assertions.assertFalse(ports.contains(value), "Unexpected member " + value);
+    }
+    final int[] sparse = new int[5000];
+    for (int i = 0; i < sparse.length; i++) {
+      sparse[i] = i * 7;
+    }
+    final IntegerSet multiples = IntegerSet.of(sparse);
+    Assertions.assertTrue(multiples.contains(34_993), "Expected member of an array chunk");
+    Assertions.assertFalse(multiples.contains(34_994), "Unexpected member of an array chunk");
+    Assertions.assertEquals(-1, multiples.indexOfFirstNotIn(sparse), "All must be members");
+    final IntegerSet.Builder evens = IntegerSet.builder();
+    for (int i = 0; i < 65_536; i += 2) {
+      evens.add(i);
+    }
+    Assertions.assertEquals(1, evens.build().indexOfFirstIn(new int[]{1, 2, 3}),
+        "Expected first member of a bitmap chunk");
+
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifIn("testField1",
+            8080,
+            ports,
+            TEST_VALUE1)
+            .ifNotIn("testField2",
+                1L << 40,
+                ports,
+                TEST_VALUE2)
+            .ifAnyNotIn("testField3",
+                new int[]{22, 443, 8081, 9000},
+                ports,
+                TEST_VALUE2)
+            .ifAnyIn("testField4",
+                new int[]{0, 1024, 165_536},
+                ports,
+                TEST_VALUE1)
+            .throwing(CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected value[8080] to be in integer set of size[66564].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected array[[22, 443, 8081, 9000]] element[8081] at index[2] to not be in integer set of size[66564]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotEqualIgnoringOrder() {
+    final List<String> testList = Arrays.asList("x", "y", "x");
+    final long[] testArray = new long[100_000];
+    final long[] testReversed = new long[testArray.length];
+    for (int i = 0; i < testArray.length; i++) {
+      testArray[i] = (long) i << 32;
+      testReversed[testArray.length - 1 - i] = testArray[i];
+    }
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class)
+            .ifNotEqualIgnoringOrder("testField1",
+                testList,
+                Arrays.asList("x", "x", "y"),
+                TEST_VALUE1)
+            .ifNotEqualIgnoringOrder("testField2",
+                testList,
+                Arrays.asList("x", "y", "y"),
+                TEST_VALUE2)
+            .ifNotEqualIgnoringOrder("testField3",
+                new HashSet<>(testList),
+                Arrays.asList("y", "x"),
+                TEST_VALUE1)
+            .ifNotEqualIgnoringOrder("testField4",
+                testArray,
+                testReversed,
+                TEST_VALUE2)
+            .ifNotEqualIgnoringOrder("testField5",
+                new int[]{1, 2, 2},
+                new int[]{2, 1, 1},
+                TEST_VALUE1)
+            .ifEqualIgnoringOrder("testField6",
+                new int[]{3, -1, 3},
+                new int[]{3, 3, -1},
+                TEST_VALUE2)
+            .ifEqualIgnoringOrder("testField7",
+                testList,
+                null,
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField2\";\tActual[[x, y, x]] ≠ Expected[[x, y, y]] ignoring order, with Missing[], Unexpected[] and Miscounted[x ×2 ≠ ×1, y ×1 ≠ ×2].%n"
+            + "Assertion failed for field: \"VerifierTest#testField5\";\tActual[[1, 2, 2]] ≠ Expected[[2, 1, 1]] ignoring order.%n"
+            + "Assertion failed for field: \"VerifierTest#testField6\";\tActual[[3, -1, 3]] ≡ Expected[[3, 3, -1]] ignoring order."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotEqualReference() {
+    final List<String> reference = Arrays.asList("a", "b", "c", "a");
+    final ReferenceCollection<String> ordered = ReferenceCollection.ordered(reference);
+    final ReferenceCollection<String> unordered = ReferenceCollection.unordered(reference);
+    Assertions.assertEquals(unordered.fingerprint(),
+        ReferenceCollection.unordered(Arrays.asList("a", "a", "c", "b")).fingerprint(),
+        "Unexpected unordered fingerprint");
+    Assertions.assertNotEquals(ordered.fingerprint(),
+        ReferenceCollection.ordered(Arrays.asList("a", "a", "c", "b")).fingerprint(),
+        "Unexpected ordered fingerprint");
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class)
+            .ifNotEqualReference("testField1",
+                new LinkedList<>(reference),
+                ordered,
+                TEST_VALUE1)
+            .ifNotEqualReference("testField2",
+                Arrays.asList("c", "a", "b", "a"),
+                unordered,
+                TEST_VALUE2)
+            .ifNotEqualReference("testField3",
+                Arrays.asList("c", "a", "b", "a"),
+                ordered,
+                TEST_VALUE1)
+            .ifNotEqualReference("testField4",
+                Arrays.asList("a", "b", "c", "d"),
+                unordered,
+                TEST_VALUE2)
+            .ifEqualReference("testField5",
+                Arrays.asList("a", "b", "c", "a"),
+                ordered,
+                TEST_VALUE1)
+            .ifEqualReference("testField6",
+                null,
+                unordered,
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField3\";\tActual[[c, a, b, a]] ≠ Expected[[a, b, c, a]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField4\";\tActual[[a, b, c, d]] ≠ Expected[[a, b, c, a]] ignoring order, with Missing[], Unexpected[d] and Miscounted[a ×1 ≠ ×2].%n"
+            + "Assertion failed for field: \"VerifierTest#testField5\";\tActual[[a, b, c, a]] ≡ Expected[[a, b, c, a]]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifContainsDuplicates() {
+    final long[] testIds = new long[1_000_000];
+    for (int i = 0; i < testIds.length; i++) {
+      testIds[i] = (long) i << 20;
+    }
+    testIds[700_000] = testIds[3];
+    testIds[900_000] = testIds[3];
+    final List<String> testRows = Arrays.asList("a:1", "b:2", "a:3", "b:2", "c:1");
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 1, 8192))
+            .ifContainsDuplicates("testField1",
+                testRows,
+                TEST_VALUE1)
+            .ifContainsDuplicates("testField2",
+                testIds,
+                TEST_VALUE2)
+            .ifContainsDuplicates("testField3",
+                new int[]{0, -1, 1, Integer.MIN_VALUE},
+                TEST_VALUE1)
+            .ifNotUnique("testField4",
+                testRows,
+                row -> row.substring(0, 1),
+                TEST_VALUE2)
+            .ifNotUnique("testField5",
+                testRows,
+                row -> Arrays.asList(row.substring(0, 1), row.substring(2)),
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected collection[[a:1, …and 4 more]] to contain [1] duplicates, the first at [b:2 at indices[1, 3]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tExpected array[[0, …and 999999 more]] to contain [2] duplicates, the first at [3145728 at indices[3, 700000]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField4\";\tExpected collection[[a:1, …and 4 more]] to contain [2] duplicate keys, the first at [a at indices[0, 2]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField5\";\tExpected collection[[a:1, …and 4 more]] to contain [1] duplicate keys, the first at [[b, 2] at indices[1, 3]]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifCyclic() {
+    final Map<String, List<String>> testTasks = new LinkedHashMap<>();
+    testTasks.put("deploy", Arrays.asList("test", "package"));
+    testTasks.put("package", Arrays.asList("compile"));
+    testTasks.put("test", Arrays.asList("compile", "fixtures"));
+    testTasks.put("fixtures", Arrays.asList("package", "deploy"));
+    final Map<String, List<String>> testAcyclicTasks = new LinkedHashMap<>(testTasks);
+    testAcyclicTasks.put("fixtures", Arrays.asList("package"));
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 4, 8192))
+            .ifCyclic("testField1",
+                testTasks,
+                TEST_VALUE1)
+            .ifCyclic("testField2",
+                testAcyclicTasks,
+                TEST_VALUE2)
+            .ifCyclic("testField3",
+                Arrays.asList(0),
+                node -> Arrays.asList((node + 1) % 1_000_000),
+                TEST_VALUE2)
+            .ifCyclic("testField4",
+                Arrays.asList(0),
+                node -> node < 1_000_000 ? Arrays.asList(node + 1, node + 2) : null,
+                TEST_VALUE1)
+            .ifCyclic("testField5",
+                (Map<String, List<String>>) null,
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected graph[{deploy=[test, package], package=[compile], test=[compile, fixtures], fixtures=[package, deploy]}] to contain a cycle of [3] edges, with path[deploy, test, fixtures, deploy].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected graph reachable from nodes[[0]] to contain a cycle of [1000000] edges, with path[0, 1, 2, 3, …and 999997 more]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifOrphaned() {
+    final List<String> testCustomers = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      testCustomers.add("customer" + i);
+    }
+    final List<Long> testOrders = new ArrayList<>();
+    for (long i = 0; i < 100_000; i++) {
+      testOrders.add(i % 1000 * 1000 + i / 1000);
+    }
+    testOrders.set(5000, 1_000_000L);
+    testOrders.set(7000, 2_000_000L);
+    testOrders.set(9000, 1_000_000L);
+    final Function<Long, Integer> customerOfOrder = order -> (int) (order / 1000);
+    final Function<String, Integer> customerId = customer -> Integer.valueOf(customer.substring(8));
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 2, 8192))
+            .ifOrphaned("testField1",
+                testOrders,
+                customerOfOrder,
+                testCustomers,
+                customerId,
+                TEST_VALUE1)
+            .ifOrphaned("testField2",
+                Arrays.asList(5L, 999_999L, 1_000_001L),
+                customerOfOrder,
+                testCustomers,
+                customerId,
+                TEST_VALUE2)
+            .ifNotReferenced("testField3",
+                testCustomers,
+                customerId,
+                testOrders.subList(0, 998),
+                customerOfOrder,
+                TEST_VALUE1)
+            .ifNotReferenced("testField4",
+                testCustomers,
+                customerId,
+                testOrders,
+                customerOfOrder,
+                TEST_VALUE2)
+            .ifOrphaned("testField5",
+                Arrays.asList(1L),
+                customerOfOrder,
+                null,
+                customerId,
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected [3] elements of collection[[0, 1000, …and 99998 more]] to reference keys missing from collection[[customer0, customer1, …and 998 more]], with keys[1000, 2000].%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tExpected [1] elements of collection[[5, 999999, …and 1 more]] to reference keys missing from collection[[customer0, customer1, …and 998 more]], with keys[1000].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected [2] elements of collection[[customer0, customer1, …and 998 more]] to not be referenced by collection[[0, 1000, …and 996 more]], with keys[998, 999].%n"
+            + "Assertion failed for field: \"VerifierTest#testField5\";\tExpected [1] elements of collection[[1]] to reference keys missing from collection[null], with keys[0]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifOverlapping() {
+    final List<Integer> testStarts = new ArrayList<>();
+    for (int i = 99_999; i >= 0; i--) {
+      testStarts.add(i * 10);
+    }
+    testStarts.add(5);
+    testStarts.add(15);
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 2, 8192))
+            .ifOverlapping("testField1",
+                new long[] {0, 10, 20, 15},
+                new long[] {10, 20, 30, 18},
+                TEST_VALUE1)
+            .ifOverlapping("testField2",
+                new long[] {0, 5},
+                new long[] {5, 10},
+                TEST_VALUE2)
+            .ifOverlapping("testField3",
+                testStarts,
+                start -> start,
+                start -> start + 10,
+                TEST_VALUE2)
+            .ifOverlapping("testField4",
+                testStarts.subList(0, 100_000),
+                start -> start,
+                start -> start + 10,
+                TEST_VALUE1)
+            .ifOverlapping("testField5",
+                (List<Integer>) null,
+                start -> start,
+                start -> start + 10,
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected [1] intervals of [[0, 10, …and 2 more]] to overlap an interval starting before them, first at index pairs[[1, 3]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected [4] intervals of [[999990, 999980, …and 100000 more]] to overlap an interval starting before them, first at index pairs[[99999, 100000], [100000, 99998]]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+
+    final Verifier.Checker<Long> checker = Verifier.forChecking(VerifierTest.class);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> checker.ifOverlapping("testField6", new long[] {0, 5, 10}, new long[] {4}));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> checker.ifOverlapping("testField7", new long[] {0, 5}, new long[] {4, 9, 14}));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> checker.ifOverlapping("testField8", new long[] {0, 5}, null));
+  }
 }
@@ -0,0 +1,211 @@
+package eli.veritas;
+
+import eli.veritas.exception.CompositeExceptionTester;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies workflows through the {@link Verifier} for {@link Clock} relative date checks.
+ */
+public class VerifierDateTest {
+
+  private static final long TEST_VALUE1 = 123l;
+  private static final long TEST_VALUE2 = 234l;
+
+  private static final Instant NOW = Instant.parse("2018-01-01T00:00:00.500Z");
+  private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  @Test
+  public void testFailureWithValue_ifAfter() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifAfter("testField1",
+            NOW.plusNanos(1),
+            CLOCK,
+            TEST_VALUE1)
+            .ifAfter("testField2",
+                NOW.toEpochMilli(),
+                CLOCK,
+                TEST_VALUE2)
+            .ifAfter("testField3",
+                NOW,
+                CLOCK,
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[2018-01-01T00:00:00.500000001Z] > Now[2018-01-01T00:00:00.500Z].",
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifBefore() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifBefore("testField1",
+            NOW,
+            CLOCK,
+            TEST_VALUE1)
+            .ifBefore("testField2",
+                NOW.toEpochMilli() - 1,
+                CLOCK,
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(
+        "Assertion failed for field: \"VerifierTest#testField2\";\tActual[2018-01-01T00:00:00.499Z] < Now[2018-01-01T00:00:00.500Z].",
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotWithinWindow() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifNotWithinWindow("testField1",
+            NOW.minusSeconds(60),
+            CLOCK,
+            Duration.ofSeconds(60),
+            TEST_VALUE1)
+            .ifNotWithinWindow("testField2",
+                NOW.toEpochMilli() + 60_001,
+                CLOCK,
+                Duration.ofSeconds(60),
+                TEST_VALUE2)
+            .ifNotWithinWindow("testField3",
+                Long.MIN_VALUE,
+                CLOCK,
+                ChronoUnit.FOREVER.getDuration(),
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(
+        "Assertion failed for field: \"VerifierTest#testField2\";\tActual[2018-01-01T00:01:00.501Z] ∉ Now[2018-01-01T00:00:00.500Z] ± ε[PT1M].",
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifNotWithinWindow("testField4",
+            NOW.toEpochMilli(), CLOCK, Duration.ofMillis(-1)));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifNotWithinWindow("testField5",
+            NOW, CLOCK, Duration.ofMillis(-1)));
+  }
+
+  @Test
+  public void testFailureWithValue_ifWithinWindow() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifWithinWindow("testField1",
+            NOW.plusMillis(500),
+            CLOCK,
+            Duration.ofSeconds(1),
+            TEST_VALUE1)
+            .ifWithinWindow("testField2",
+                (Instant) null,
+                CLOCK,
+                Duration.ofSeconds(1),
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[2018-01-01T00:00:01Z] ∈ Now[2018-01-01T00:00:00.500Z] ± ε[PT1S].",
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testCoarseClock() throws InterruptedException {
+    final SourceClock source = new SourceClock(NOW.toEpochMilli());
+    final CoarseClock clock = CoarseClock.start(source, Duration.ofMillis(1));
+    try {
+      Assertions.assertEquals(NOW.toEpochMilli(), clock.millis(), "Unexpected initial value");
+      source.millis = NOW.toEpochMilli() + 1_000;
+      await(() -> clock.millis() == NOW.toEpochMilli() + 1_000, "Coarse clock was not refreshed");
+      Assertions.assertEquals(clock.millis(), clock.withZone(ZoneOffset.ofHours(1)).millis(),
+          "Coarse clock views must share the cached value");
+
+      source.failure = new IllegalStateException("Unavailable");
+      await(() -> clock.getRefreshFailure() == source.failure, "Refresh failure was not kept");
+      Assertions.assertEquals(NOW.toEpochMilli() + 1_000, clock.millis(),
+          "Coarse clock must keep its value while the source fails");
+      source.failure = null;
+      source.millis = NOW.toEpochMilli() + 2_000;
+      await(() -> clock.millis() == NOW.toEpochMilli() + 2_000,
+          "Coarse clock must carry on refreshing after a failure");
+      await(() -> clock.getRefreshFailure() == null, "Refresh failure was not cleared");
+    } finally {
+      clock.close();
+    }
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> CoarseClock.start(Duration.ZERO));
+  }
+
+  /**
+   * Polls with a generous deadline, since the refresh thread may be delayed on a busy host.
+   */
+  private static void await(final BooleanSupplier condition, final String message)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      Assertions.assertTrue(System.nanoTime() < deadline, message);
+      Thread.sleep(1);
+    }
+  }
+
+  private static final class SourceClock extends Clock {
+
+    private volatile long millis;
+    private volatile RuntimeException failure;
+
+    private SourceClock(final long millis) {
+      this.millis = millis;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long millis() {
+      final RuntimeException failure = this.failure;
+      if (failure != null) {
+        throw failure;
+      }
+      return millis;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis());
+    }
+  }
+}
@@ -1,11 +1,18 @@
 package eli.veritas;
 
 import eli.veritas.exception.CompositeExceptionTester;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -118,6 +125,139 @@ public class VerifierEqualityTest {
     Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
   }
 
+  @Test
+  public void testFailureWithValue_ifEqualDateDuration() {
+    final Instant instant = Instant.ofEpochSecond(1_500_000_000L, 900_000_000);
+    final OffsetDateTime offsetDateTime = OffsetDateTime.of(2018, 1, 1, 12, 0, 0, 0,
+        ZoneOffset.ofHours(2));
+    final ZonedDateTime zonedDateTime = ZonedDateTime.of(2018, 1, 1, 10, 0, 0, 250_000_000,
+        ZoneOffset.UTC);
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifEqualDate("testField1",
+            instant,
+            instant.plusMillis(200),
+            Duration.ofMillis(200),
+            TEST_VALUE1)
+            .ifEqualDate("testField2",
+                instant,
+                instant.minusMillis(201),
+                Duration.ofMillis(200),
+                TEST_VALUE2)
+            .ifEqualDate("testField3",
+                zonedDateTime,
+                offsetDateTime.toZonedDateTime(),
+                Duration.ofMillis(250),
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[2017-07-14T02:40:00.900Z] ± ε[PT0.2S] ≡ Expected[2017-07-14T02:40:01.100Z].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tActual[2018-01-01T10:00:00.250Z] ± ε[PT0.25S] ≡ Expected[2018-01-01T12:00+02:00]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifEqualDateEpoch() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifEqualDate("testField1",
+            1_500_000_000_000L,
+            1_500_000_000_250L,
+            250,
+            TimeUnit.MILLISECONDS,
+            TEST_VALUE1)
+            .ifEqualDate("testField2",
+                Long.MAX_VALUE,
+                Long.MIN_VALUE,
+                Long.MAX_VALUE,
+                TimeUnit.NANOSECONDS,
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[1500000000000] ± ε[250 ms] ≡ Expected[1500000000250].",
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotEqualDateDuration() {
+    final LocalDateTime localDateTime = LocalDateTime.of(2018, 1, 1, 0, 0);
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifNotEqualDate("testField1",
+            localDateTime,
+            localDateTime.plusNanos(1_000_001),
+            Duration.ofMillis(1),
+            TEST_VALUE1)
+            .ifNotEqualDate("testField2",
+                localDateTime,
+                localDateTime.minusNanos(1_000_000),
+                Duration.ofMillis(1),
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[2018-01-01T00:00] ± ε[PT0.001S] ≠ Expected[2018-01-01T00:00:00.001000001].",
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotEqualDateEpoch() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifNotEqualDate("testField1",
+            Long.MAX_VALUE,
+            Long.MIN_VALUE,
+            1,
+            TimeUnit.NANOSECONDS,
+            TEST_VALUE1)
+            .ifNotEqualDate("testField2",
+                1_000L,
+                999L,
+                1,
+                TimeUnit.MILLISECONDS,
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[9223372036854775807] ± ε[1 ns] ≠ Expected[-9223372036854775808].",
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testNegativeDateTolerance() {
+    final Verifier.Checker<Long> checker = Verifier.forChecking(VerifierTest.class);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> checker.ifNotEqualDate("testField1", 0L, 1_000_000_000_000L, -1L,
+            TimeUnit.MILLISECONDS));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> checker.ifEqualDate("testField2", 0L, 0L, -1L, TimeUnit.MILLISECONDS));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> checker.ifNotEqualDate("testField3", Instant.EPOCH, Instant.EPOCH,
+            Duration.ofNanos(-1)));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> checker.ifEqualDate("testField4", (ZonedDateTime) null, null,
+            Duration.ofSeconds(-1)));
+  }
+
   @Test
   public void testFailureWithValue_ifEqualNumeric() {
     final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
@@ -157,6 +297,107 @@ public class VerifierEqualityTest {
     Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
   }
 
+  @Test
+  public void testFailureWithValue_ifEqualNumericWithTolerance() {
+    final float[] expected = {1f, 2f, 3f};
+    final float[] actual = {1f, Math.nextUp(2f), Math.nextDown(3f)};
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifEqualWithError("testField1",
+            1e12 + 1,
+            1e12,
+            Tolerance.relative(1e-9),
+            TEST_VALUE1)
+            .ifEqualWithError("testField2",
+                1e-12,
+                0,
+                Tolerance.absoluteOrRelative(1e-9, 1e-9),
+                TEST_VALUE2)
+            .ifEqualWithError("testField3",
+                Math.nextUp(Math.nextUp(Math.nextUp(1.0))),
+                1.0,
+                Tolerance.ulps(2),
+                TEST_VALUE1)
+            .ifEqualWithError("testField4",
+                actual,
+                expected,
+                Tolerance.ulps(1),
+                TEST_VALUE2)
+            .ifEqualWithError("testField5",
+                new double[]{Double.NaN, 1},
+                new double[]{Double.NaN, 1.5},
+                Tolerance.absolute(0.1),
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[1.000000000001E12] ± ε[1.0E-9 relative] ≡ Expected[1.0E12].%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tActual[1.0E-12] ± ε[1.0E-9 or 1.0E-9 relative] ≡ Expected[0.0].%n"
+            + "Assertion failed for field: \"VerifierTest#testField4\";\tActual[[1.0, 2.0000002, 2.9999998]] ± ε[1 ulp] ≡ Expected[[1.0, 2.0, 3.0]]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotEqualNumericWithTolerance() {
+    final double[] expected = new double[1000];
+    final double[] actual = new double[expected.length];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = Math.scalb(1.0, i % 64 - 32);
+      actual[i] = expected[i] * (1 + 1e-12);
+    }
+    actual[10] = expected[10] * 1.001;
+    actual[500] = expected[500] * 1.01;
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 2, 4096))
+            .ifNotEqualWithError("testField1",
+                actual,
+                expected,
+                Tolerance.relative(1e-9),
+                TEST_VALUE1)
+            .ifNotEqualWithError("testField2",
+                new float[]{1f},
+                new float[]{1f, 2f},
+                Tolerance.ulps(4),
+                TEST_VALUE2)
+            .ifNotEqualWithError("testField3",
+                1.0,
+                Math.nextUp(Math.nextUp(1.0)),
+                Tolerance.ulps(1),
+                TEST_VALUE1)
+            .ifNotEqualWithError("testField4",
+                -0.0,
+                0.0,
+                Tolerance.ulps(0),
+                TEST_VALUE2)
+            .ifNotEqualWithError("testField5",
+                Double.POSITIVE_INFINITY,
+                Double.MAX_VALUE,
+                Tolerance.relative(1),
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[[2.328306436541025E-10, 4.65661287308205E-10, …and 998 more]] ± ε[1.0E-9 relative] ≠ Expected[[2.3283064365386963E-10, 4.6566128730773926E-10, …and 998 more]] at [2] elements, worst at index[500], where Actual[1059061.76] ≠ Expected[1048576.0].%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tActual[[1.0]] ± ε[4 ulp] ≠ Expected[[1.0, 2.0]].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tActual[1.0] ± ε[1 ulp] ≠ Expected[1.0000000000000004].%n"
+            + "Assertion failed for field: \"VerifierTest#testField5\";\tActual[Infinity] ± ε[1.0 relative] ≠ Expected[1.7976931348623157E308]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
   @Test
   public void testFailureWithValue_ifEqualString() {
     final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
@@ -232,6 +473,49 @@ public class VerifierEqualityTest {
     Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
   }
 
+  @Test
+  public void testFailureWithValue_ifNotEqualCollectionDiff() {
+    final List<Integer> expectedCollection = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      expectedCollection.add(i);
+    }
+    final List<Integer> testCollection = new ArrayList<>(expectedCollection);
+    testCollection.remove(Integer.valueOf(5000));
+    testCollection.set(0, 20_000);
+    testCollection.add(7);
+    testCollection.add(7);
+    for (int i = 1; i <= 3; i++) {
+      testCollection.add(-i);
+    }
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 2, 8192))
+            .ifNotEqual("testField1",
+                testCollection,
+                expectedCollection,
+                TEST_VALUE1)
+            .ifNotEqual("testField2",
+                Arrays.asList("y", "x"),
+                Arrays.asList("x", "y"),
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[[20000, 1, …and 10002 more]] ≠ Expected[[0, 1, …and 9998 more]], with Missing[0, 5000], Unexpected[20000, -1, …and 2 more] and Miscounted[7 ×3 ≠ ×1].%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tActual[[y, x]] ≠ Expected[[x, y]]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+
+    final CollectionDiff diff = CollectionDiff.of(testCollection, expectedCollection, 2);
+    Assertions.assertEquals(4, diff.getUnexpected().size(), "Unexpected number of unexpected");
+    Assertions.assertEquals(Arrays.asList(20_000, -1), new ArrayList<>(diff.getUnexpected()),
+        "Only the limit of entries must be kept");
+  }
+
   @Test
   public void testFailureWithValue_ifNotEqualInstant() {
     final Instant future = Instant.MAX;
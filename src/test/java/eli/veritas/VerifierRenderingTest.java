@@ -0,0 +1,105 @@
+package eli.veritas;
+
+import eli.veritas.exception.CompositeExceptionTester;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies workflows through the {@link Verifier} for {@link RenderingBudget bounded} diagnostic
+ * messages.
+ */
+public class VerifierRenderingTest {
+
+  private static final long TEST_VALUE1 = 123l;
+
+  @Test
+  public void testFailureWithValue_maxElements() {
+    final List<Integer> testCollection = new ArrayList<>();
+    for (int i = 0; i < 1_000_000; i++) {
+      testCollection.add(i);
+    }
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 3, 8192))
+            .ifEqual("testField1",
+                testCollection,
+                testCollection,
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tActual[[0, 1, 2, …and 999997 more]] ≡ Expected[[0, 1, 2, …and 999997 more]].",
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_maxValueLength() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(4, 64, 8192))
+            .ifBlank("testField1",
+                "          ",
+                TEST_VALUE1)
+            .ifEqual("testField2",
+                "abcdefgh",
+                "ABCDEFGH",
+                false)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected string[\"    …\"] to be blank, empty, or null.%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tActual[\"abcd…\"] ≡ Expected[\"ABCD…\"]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+  }
+
+  @Test
+  public void testFailureWithValue_maxMessageLength() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(1024, 64, 20))
+            .ifNull("testField1",
+                null,
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals("Assertion failed for…", ex.getMessage(),
+        "Unexpected exception message");
+  }
+
+  @Test
+  public void testRender_nested() {
+    final Map<String, List<String>> testMap = new LinkedHashMap<>();
+    final List<String> testList = new LinkedList<>();
+    testList.add("x");
+    testList.add("y");
+    testList.add("z");
+    testMap.put("a", testList);
+    testMap.put("b", testList);
+    testMap.put("c", testList);
+
+    Assertions.assertEquals("{a=[x, y, …and 1 more], b=[x, y, …and 1 more], …and 1 more}",
+        RenderingBudget.of(1024, 2, 8192).render(testMap), "Unexpected rendering");
+    Assertions.assertEquals("{a=[x, y, z], b=…", RenderingBudget.of(16, 64, 8192).render(testMap),
+        "Unexpected rendering");
+    Assertions.assertEquals("[1, 2, …and 3 more]",
+        RenderingBudget.of(1024, 2, 8192).render(new int[]{1, 2, 3, 4, 5}),
+        "Unexpected rendering");
+  }
+
+  @Test
+  public void testOf_invalid() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RenderingBudget.of(0, 1, 1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RenderingBudget.of(1, 0, 1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RenderingBudget.of(1, 1, -1));
+  }
+}
@@ -1,6 +1,9 @@
 package eli.veritas;
 
 import eli.veritas.exception.CompositeExceptionTester;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
@@ -365,4 +368,476 @@ public class VerifierStringTest {
     Verifier.<Long>forChecking(VerifierTest.class).ifWithinMaxLength("testField1", "x", 1)
         .throwing(CompositeExceptionTester::new);
   }
+
+  @Test
+  public void testFailureWithValue_ifBlankCharSequence() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifBlank("testField1",
+            new StringBuilder(" \t\r\n"),
+            TEST_VALUE1)
+            .ifEqual("testField2",
+                new StringBuilder("xYz"),
+                "XyZ",
+                false,
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected string[\" \t\r\n\"] to be blank, empty, or null.%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tActual[\"xYz\"] ≡ Expected[\"XyZ\"]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifEqualUtf8() {
+    final ByteBuffer buffer = utf8("[Grüße, 😀]");
+    buffer.position(1).limit(buffer.limit() - 1);
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifEqualUtf8("testField1",
+            buffer,
+            "GRÜSSE, 😀",
+            false,
+            TEST_VALUE1)
+            .ifEqualUtf8("testField2",
+                buffer,
+                "grüße, 😀",
+                false,
+                TEST_VALUE2)
+            .ifNotEqualUtf8("testField3",
+                buffer,
+                "Grüße, 😀",
+                true,
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(
+        "Assertion failed for field: \"VerifierTest#testField2\";\tActual[\"Grüße, 😀\"] ≡ Expected[\"grüße, 😀\"].",
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+    Assertions.assertEquals(1, buffer.position(), "Unexpected buffer position");
+  }
+
+  @Test
+  public void testFailureWithValue_ifMatchesUtf8() {
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifMatchesUtf8("testField1",
+            utf8("1984-01-23"),
+            "\\d{4}-\\d{2}-\\d{2}",
+            TEST_VALUE1)
+            .ifNotMatchesUtf8("testField2",
+                utf8("Grüße"),
+                "Gr\\p{L}+e",
+                TEST_VALUE2)
+            .ifBlankUtf8("testField3",
+                utf8(" \u00a0"),
+                TEST_VALUE2)
+            .ifNotBlankUtf8("testField4",
+                utf8(" x "),
+                TEST_VALUE3)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected string[\"1984-01-23\"] to match pattern[\"\\d{4}-\\d{2}-\\d{2}\"].%n"
+            + "Assertion failed for field: \"VerifierTest#testField4\";\tExpected string to not be blank, empty, or null."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE3);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotWithinMaxLengthUtf8() {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 100_000; i++) {
+      builder.append("😀");
+    }
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(3, 64, 8192))
+            .ifNotWithinMaxLengthUtf8("testField1",
+                utf8(builder.toString()),
+                199_999,
+                TEST_VALUE1)
+            .ifNotWithinMaxLengthUtf8("testField2",
+                utf8("😀"),
+                2,
+                TEST_VALUE2)
+            .ifWithinMaxLengthUtf8("testField3",
+                utf8("\u00ff\u00ff"),
+                2,
+                TEST_VALUE3)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected string[\"😀\ud83d…\"] length[200,000] to exceed length[199,999].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected string[\"ÿÿ\"] length[2] to be within length[2]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE3);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifMatchesLinear() {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 100_000; i++) {
+      builder.append('a');
+    }
+    final LinearPattern pattern = LinearPattern.compileLinear("(a+)+b");
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class, RenderingBudget.of(6, 64, 8192))
+            .ifMatches("testField1",
+                builder,
+                pattern,
+                TEST_VALUE1)
+            .ifNotMatches("testField2",
+                builder,
+                pattern,
+                TEST_VALUE2)
+            .ifMatchesUtf8("testField3",
+                utf8("aaab"),
+                pattern,
+                TEST_VALUE3)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField2\";\tExpected string[\"aaaaaa…\"] to not match pattern[\"(a+)+b\"].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected string[\"aaab\"] to match pattern[\"(a+)+b\"]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE3);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testLinearPattern() {
+    final String[] regexes = {"[a-c&&]?x", "^\\d{2,3}(?:-\\d+)*$", "(?<w>\\w+)@[^@\\s]+\\.(com|org)",
+        "a.*?b|\\Q.*\\E", "[^\\x00-\\x7F]{1}😀+", "(x|xy){0,2}y?"};
+    final String[] inputs = {"", "x", "12", "123-4-56", "1234", "me@example.org", "me@ex@ample.com",
+        "a\nb", "axxb", ".*", "é😀😀", "xxy", "xyxy", "xyxyy"};
+    for (final String regex : regexes) {
+      final LinearPattern pattern = LinearPattern.compile(regex);
+      final java.util.regex.Pattern expected = java.util.regex.Pattern.compile(regex);
+      for (final String input : inputs) {
+        final String description = "pattern[" + regex + "] input[" + input + "]";
+        Assertions.assertEquals(expected.matcher(input).matches(), pattern.matches(input),
+            description);
+        Assertions.assertEquals(expected.matcher(input).matches(), pattern.matches(utf8(input)),
+            description);
+      }
+    }
+    Assertions.assertFalse(LinearPattern.compile("[a-c&&]?x").isLinear(),
+        "Class intersections are not supported");
+    Assertions.assertTrue(LinearPattern.compile("(x|xy){0,2}y?").isLinear(),
+        "Counted repetitions are supported");
+
+    final LinearPattern fallback = LinearPattern.compile("(a)\\1");
+    Assertions.assertFalse(fallback.isLinear(), "Back references are not supported");
+    Assertions.assertEquals("Unsupported escape '\\1' at index 5 of pattern[\"(a)\\1\"].",
+        fallback.getFallbackReason(), "Unexpected fallback reason");
+    Assertions.assertTrue(fallback.matches("aa"), "Fallback pattern must still match");
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> LinearPattern.compileLinear("\\bword\\b"));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> LinearPattern.compileLinear("\\x+1"));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> LinearPattern.compileLinear("\\u+123"));
+    Assertions.assertTrue(LinearPattern.compileLinear("caf\\u00E9\\x21").matches("caf\u00e9!"),
+        "Unexpected hexadecimal escapes");
+    Assertions.assertTrue(LinearPattern.compileLinear(nested(RegexParser.maxDepth)).matches("a"),
+        "Nesting up to the limit is supported");
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> LinearPattern.compileLinear(nested(100_000)));
+  }
+
+  @Test
+  public void testFailureWithValue_ifMatchesAnyPattern() {
+    final PatternSet hosts = PatternSet.ofLiterals("example.com", "example.org", "example.net");
+    final PatternSet codes = PatternSet.ofRegexes("[A-Z]{3}-\\d{4}", "X\\d+", "(\\w)\\1");
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifMatchesAnyPattern("testField1",
+            "example.org",
+            hosts,
+            TEST_VALUE1)
+            .ifMatchesNoPattern("testField2",
+                "example.co",
+                hosts,
+                TEST_VALUE2)
+            .ifMatchesAnyPattern("testField3",
+                "zz",
+                codes,
+                TEST_VALUE3)
+            .ifMatchesNoPattern("testField4",
+                "ABC-1234",
+                codes,
+                TEST_VALUE3)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected string[\"example.org\"] to match pattern[\"example.org\"] at index[1].%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tExpected string[\"example.co\"] to match none of [3] patterns.%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected string[\"zz\"] to match pattern[\"(\\w)\\1\"] at index[2]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE3);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testPatternSet() {
+    final String[] literals = {"he", "she", "his", "hers", "", "s"};
+    final PatternSet contained = PatternSet.ofContainedLiterals(literals[0], literals[1],
+        literals[2], literals[3]);
+    Assertions.assertEquals(0, contained.firstMatch("ushers"),
+        "'he' and 'she' end together, so the lowest index wins");
+    Assertions.assertEquals(2, contained.firstMatch("ahishers"), "'his' ends first");
+    Assertions.assertEquals(-1, contained.firstMatch("hhsrs"), "No literal is contained");
+    Assertions.assertEquals(4, PatternSet.ofContainedLiterals(literals).firstMatch("xyz"),
+        "The empty literal is contained in everything");
+
+    final PatternSet exact = PatternSet.ofLiterals(literals);
+    Assertions.assertEquals(3, exact.firstMatch("hers"), "Unexpected exact match");
+    Assertions.assertEquals(4, exact.firstMatch(""), "Unexpected exact match");
+    Assertions.assertEquals(-1, exact.firstMatch("her"), "Prefixes must not match exactly");
+
+    final PatternSet regexes = PatternSet.ofRegexes("a+", "(a)\\1", "a*b?");
+    Assertions.assertEquals(0, regexes.firstMatch("aa"), "Lowest index must be reported");
+    Assertions.assertEquals(2, regexes.firstMatch("ab"), "Unexpected regex match");
+    Assertions.assertEquals(-1, regexes.firstMatch("ba"), "Unexpected regex match");
+    Assertions.assertEquals(-1, PatternSet.ofRegexes().firstMatch(""), "Empty sets match nothing");
+
+    final List<String> large = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      large.add("p" + i + "-\\d{1,300}");
+    }
+    large.add(120, "(q)\\1");
+    Assertions.assertTrue(LinearPattern.compile(large.get(0)).isLinear(), "Expected linear");
+    final PatternSet split = PatternSet.ofRegexes(large);
+    Assertions.assertEquals(0, split.firstMatch("p0-123"), "Unexpected large set match");
+    Assertions.assertEquals(120, split.firstMatch("qq"), "Unexpected large set match");
+    Assertions.assertEquals(200, split.firstMatch("p199-7"), "Unexpected large set match");
+    Assertions.assertEquals(-1, split.firstMatch("p200-1"), "Unexpected large set match");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotContainsOnly() {
+    final CharClass emoji = CharClass.ofRanges("emoji", 0x1F600, 0x1F64F);
+    Assertions.assertTrue(CharClass.BASE64_URL.contains('_'), "Unexpected character class");
+    Assertions.assertFalse(CharClass.BASE64.contains('_'), "Unexpected character class");
+    Assertions.assertTrue(CharClass.compile("[\\w-]").contains('-'), "Unexpected character class");
+    Assertions.assertTrue(emoji.contains(0x1F600), "Unexpected character class");
+    Assertions.assertTrue(emoji.complement().contains('a'), "Unexpected character class");
+    Assertions.assertThrows(IllegalArgumentException.class, () -> CharClass.compile("[a-z]+"),
+        "Only single character classes can be compiled");
+
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifNotContainsOnly("testField1",
+            "00ff7Ag",
+            CharClass.HEX,
+            TEST_VALUE1)
+            .ifNotContainsOnly("testField2",
+                "aGVsbG8=",
+                CharClass.BASE64,
+                TEST_VALUE2)
+            .ifContainsOnly("testField3",
+                "Hello, World!",
+                CharClass.ASCII_PRINTABLE,
+                TEST_VALUE3)
+            .ifContainsAny("testField4",
+                "smile \uD83D\uDE00",
+                emoji,
+                TEST_VALUE1)
+            .ifContainsNone("testField5",
+                "\uD83D\uDE00",
+                CharClass.ALPHANUMERIC,
+                TEST_VALUE2)
+            .ifNotContainsOnly("testField6",
+                "abc\uD83D\uDE00",
+                CharClass.ALPHANUMERIC,
+                TEST_VALUE3)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected string[\"00ff7Ag\"] to not contain only class[hex], first outside at index[6].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected string[\"Hello, World!\"] to contain only class[ASCII printable].%n"
+            + "Assertion failed for field: \"VerifierTest#testField4\";\tExpected string[\"smile \uD83D\uDE00\"] to contain any of class[emoji], first at index[6].%n"
+            + "Assertion failed for field: \"VerifierTest#testField5\";\tExpected string[\"\uD83D\uDE00\"] to contain none of class[alphanumeric].%n"
+            + "Assertion failed for field: \"VerifierTest#testField6\";\tExpected string[\"abc\uD83D\uDE00\"] to not contain only class[alphanumeric], first outside at index[3]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE3);
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE3);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifNotWithinMaxUtf8Bytes() {
+    final String testMixed = "a\u00e9\u20ac\uD83D\uDE00";
+    Assertions.assertEquals(testMixed.getBytes(StandardCharsets.UTF_8).length,
+        Utf8.encodedLength(testMixed, Long.MAX_VALUE), "Unexpected UTF-8 length");
+    Assertions.assertEquals(1, Utf8.encodedLength("\uD83D", Long.MAX_VALUE),
+        "Unpaired surrogates must be replaced by a single byte");
+
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifNotWithinMaxUtf8Bytes("testField1",
+            testMixed,
+            9,
+            TEST_VALUE1)
+            .ifNotWithinMaxUtf8Bytes("testField2",
+                testMixed,
+                10,
+                TEST_VALUE2)
+            .ifNotWithinMaxCodePoints("testField3",
+                testMixed,
+                3,
+                TEST_VALUE3)
+            .ifNotWithinMaxCodePoints("testField4",
+                testMixed,
+                4,
+                TEST_VALUE1)
+            .ifNotWithinMaxUtf8Bytes("testField5",
+                null,
+                0,
+                TEST_VALUE2)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected string[\"a\u00e9\u20ac\uD83D\uDE00\"] UTF-8 length[10] to exceed bytes[9].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected string[\"a\u00e9\u20ac\uD83D\uDE00\"] code point length[4] to exceed code point length[3]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE3);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifStartsWithAny() {
+    final PrefixSet prefixes = PrefixSet.of("/api/", "/api/v1/", "/static/", "https://", "/api/v1");
+    Assertions.assertEquals("/api/v1/", prefixes.longestPrefix("/api/v1/users"),
+        "Unexpected longest prefix");
+    Assertions.assertEquals("/api/v1", prefixes.longestPrefix("/api/v10"),
+        "Unexpected longest prefix");
+    Assertions.assertNull(prefixes.longestPrefix("/ap"), "Unexpected prefix");
+    Assertions.assertEquals("", PrefixSet.of("", "x").longestPrefix("y"),
+        "The empty prefix starts everything");
+
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifStartsWithAny("testField1",
+            "/api/v1/users/1",
+            prefixes,
+            TEST_VALUE1)
+            .ifStartsWithNone("testField2",
+                "/admin/",
+                prefixes,
+                TEST_VALUE2)
+            .ifStartsWithNone("testField3",
+                "https://example.com",
+                prefixes,
+                TEST_VALUE3)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField1\";\tExpected string[\"/api/v1/users/1\"] to start with prefix[\"/api/v1/\"].%n"
+            + "Assertion failed for field: \"VerifierTest#testField2\";\tExpected string[\"/admin/\"] to start with none of [5] prefixes."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE1);
+    expectedValues.add(TEST_VALUE2);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  @Test
+  public void testFailureWithValue_ifViolates() {
+    final StringRule rule = StringRule.builder()
+        .notBlank()
+        .length(4, 12)
+        .allowed("alphanumeric or '-'", c -> Character.isLetterOrDigit(c) || c == '-')
+        .prefix("ID-")
+        .suffix("-X")
+        .pattern(LinearPattern.compile("ID-[0-9]+-X"))
+        .build();
+    Assertions.assertTrue(rule.violations("ID-42-X").isEmpty(), "Unexpected violations");
+    Assertions.assertEquals("[pattern[\"ID-[0-9]+-X\"] unmatched]",
+        rule.violations("ID-4a-X").toString(), "Unexpected violations");
+
+    final CompositeExceptionTester ex = Assertions.assertThrows(CompositeExceptionTester.class,
+        () -> Verifier.<Long>forChecking(VerifierTest.class).ifViolates("testField1",
+            "ID-12345-X",
+            rule,
+            TEST_VALUE1)
+            .ifViolates("testField2",
+                "id-1 2 3 4 5 6",
+                rule,
+                TEST_VALUE2)
+            .ifViolates("testField3",
+                "  ",
+                rule,
+                TEST_VALUE3)
+            .ifViolates("testField4",
+                "ID\uD83D\uDE00X",
+                StringRule.builder().allowed("alphanumeric", Character::isLetterOrDigit).build(),
+                TEST_VALUE1)
+            .throwing(
+                CompositeExceptionTester::new));
+
+    Assertions.assertEquals(String.format(
+        "Assertion failed for field: \"VerifierTest#testField2\";\tExpected string[\"id-1 2 3 4 5 6\"] to violate rule[not blank, length[4, 12], alphanumeric or '-', prefix[\"ID-\"], suffix[\"-X\"], pattern[\"ID-[0-9]+-X\"]], with violations[length[14] ∉ [4, 12], character[' '] at index[4] ∉ alphanumeric or '-', prefix[\"ID-\"] missing, suffix[\"-X\"] missing, pattern[\"ID-[0-9]+-X\"] unmatched].%n"
+            + "Assertion failed for field: \"VerifierTest#testField3\";\tExpected string[\"  \"] to violate rule[not blank, length[4, 12], alphanumeric or '-', prefix[\"ID-\"], suffix[\"-X\"], pattern[\"ID-[0-9]+-X\"]], with violations[blank, length[2] ∉ [4, 12], character[' '] at index[0] ∉ alphanumeric or '-', prefix[\"ID-\"] missing, suffix[\"-X\"] missing, pattern[\"ID-[0-9]+-X\"] unmatched].%n"
+            + "Assertion failed for field: \"VerifierTest#testField4\";\tExpected string[\"ID\uD83D\uDE00X\"] to violate rule[alphanumeric], with violations[character['\uD83D\uDE00'] at index[2] ∉ alphanumeric]."),
+        ex.getMessage(),
+        "Unexpected exception message");
+    final List<Long> expectedValues = new LinkedList<>();
+    expectedValues.add(TEST_VALUE2);
+    expectedValues.add(TEST_VALUE3);
+    expectedValues.add(TEST_VALUE1);
+    Assertions.assertEquals(expectedValues, ex.getValues(), "Unexpected exception values");
+  }
+
+  private static ByteBuffer utf8(final String value) {
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String nested(final int depth) {
+    final StringBuilder regex = new StringBuilder(2 * depth + 1);
+    for (int i = 0; i < depth; i++) {
+      regex.append('(');
+    }
+    regex.append('a');
+    for (int i = 0; i < depth; i++) {
+      regex.append(')');
+    }
+    return regex.toString();
+  }
 }